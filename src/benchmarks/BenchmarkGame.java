@@ -0,0 +1,147 @@
+package benchmarks;
+
+import main.game.DataManager;
+import main.game.Game;
+import main.game.Tile;
+import main.game.TileBag;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Game used by benchmarks. Board can be filled with words or loaded from fixture file.
+ * <br>
+ * Fixture file has board rows ('.' for empty square, capital letter for tile, small letter
+ * for blank) and line "rack LETTERS" ('*' for blank). Lines with '#' are comments.
+ */
+public class BenchmarkGame extends Game {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Directory with board fixtures, relative to 'src' */
+	public static final String FIXTURES_DIRECTORY = "benchmarks/fixtures/";
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Tile bag with points of letters */
+	private TileBag tileBag;
+
+	/** Rack loaded from fixture */
+	private List<Tile> rack = new ArrayList<>();
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Constructor that create game with empty board.
+	 * @throws IOException when loading game files fails
+	 */
+	public BenchmarkGame() throws IOException {
+		super();
+		tileBag = new TileBag(DataManager.getGameVersion());
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Load board and rack from fixture file.
+	 * @param name fixture name, eg. "mid" for "benchmarks/fixtures/mid.txt"
+	 * @throws IOException when reading fails
+	 */
+	public void loadFixture(String name) throws IOException {
+		BufferedReader br = Files.newBufferedReader(Paths.get(FIXTURES_DIRECTORY + name + ".txt"));
+		List<Tile> tiles = new ArrayList<>();
+		int row = 0;
+		String line;
+
+		while ((line = br.readLine()) != null) {
+			if(line.startsWith("#") || line.isEmpty()) {
+				continue;
+			}
+			if(line.startsWith("rack ")) {
+				rack = createRack(line.substring(5).trim());
+				continue;
+			}
+			for(int column=0; column<line.length() && column<boardSize; column++) {
+				char letter = line.charAt(column);
+				if(letter == '.') {
+					continue;
+				}
+				Tile tile;
+				if(Character.isLowerCase(letter)) {
+					tile = new Tile('*', tileBag.getPoints('*'));
+					tile.setLetter(Character.toUpperCase(letter));
+				} else {
+					tile = new Tile(letter, tileBag.getPoints(letter));
+				}
+				tile.setRow(row);
+				tile.setColumn(column);
+				tiles.add(tile);
+			}
+			row++;
+		}
+		br.close();
+
+		placeTiles(tiles);
+		firstMoveDone = !tiles.isEmpty();
+	}
+
+	/**
+	 * Place word on board. Letters already on board are skipped.
+	 * @param word word in capital letters
+	 * @param row first letter row
+	 * @param column first letter column
+	 * @param horizontally true if word is placed in row
+	 */
+	public void placeWord(String word, int row, int column, boolean horizontally) {
+		List<Tile> tiles = new ArrayList<>();
+		for(int i=0; i<word.length(); i++) {
+			int j = horizontally ? row : row + i;
+			int k = horizontally ? column + i : column;
+			if(board.isEmpty(j, k)) {
+				Tile tile = new Tile(word.charAt(i), tileBag.getPoints(word.charAt(i)));
+				tile.setRow(j);
+				tile.setColumn(k);
+				tiles.add(tile);
+			}
+		}
+		placeTiles(tiles);
+		firstMoveDone = true;
+	}
+
+	/**
+	 * Get rack loaded from fixture.
+	 * @return rack tiles
+	 */
+	public List<Tile> getRack() {
+		return rack;
+	}
+
+	/**
+	 * Create rack with given letters.
+	 * @param letters capital letters, '*' for blank
+	 * @return rack tiles
+	 */
+	public List<Tile> createRack(String letters) {
+		List<Tile> rack = new ArrayList<>();
+		for(char letter : letters.toCharArray()) {
+			rack.add(new Tile(letter, tileBag.getPoints(letter)));
+		}
+		return rack;
+	}
+
+}
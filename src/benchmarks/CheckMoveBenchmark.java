@@ -0,0 +1,164 @@
+package benchmarks;
+
+import main.game.Move;
+import main.game.MoveBuffer;
+import main.game.MoveGenerator;
+import main.game.Tile;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of move validation and scoring on board fixtures.<br>
+ * Every legal move with fixture rack is checked with 'Game.checkMove(Move)' and allocation free
+ * 'Game.checkMove(MoveBuffer)', and main word of every move is scored with 'Game.getScore()'.
+ * <br>
+ * Run from 'src' directory (game files are loaded from 'data_files'), eg. with
+ * '-prof gc' to see allocation rate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckMoveBenchmark {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Board fixture name */
+	@Param({"early", "mid", "late"})
+	private String fixture;
+
+	/** Game with fixture board */
+	private BenchmarkGame game;
+
+	/** Legal moves with Tile objects */
+	private List<Move> moves;
+
+	/** Legal moves as buffers */
+	private List<MoveBuffer> buffers;
+
+	/** Main words of legal moves, board tiles and move tiles */
+	private List<List<Tile>> words;
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Load board and generate legal moves.
+	 * @throws IOException when loading game files fails
+	 */
+	@Setup
+	public void setup() throws IOException {
+		game = new BenchmarkGame();
+		game.loadFixture(fixture);
+
+		moves = new MoveGenerator(game).generateMoves(game.getRack());
+		buffers = new ArrayList<>();
+		words = new ArrayList<>();
+		for(Move move : moves) {
+			MoveBuffer buffer = new MoveBuffer();
+			buffer.set(move);
+			buffers.add(buffer);
+			words.add(getMainWord(move));
+		}
+	}
+
+	/**
+	 * Get tiles of main word of move.
+	 * @param move move
+	 * @return board tiles and move tiles in order
+	 */
+	private List<Tile> getMainWord(Move move) {
+		Tile first = move.getTiles().get(0);
+		Tile last = move.getTiles().get(move.getTiles().size() - 1);
+		boolean horizontally = first.getRow() == last.getRow()
+				&& (first.getColumn() != last.getColumn() || hasTile(first.getRow(), first.getColumn() - 1)
+				|| hasTile(first.getRow(), first.getColumn() + 1));
+		int rowStep = horizontally ? 0 : 1;
+		int columnStep = horizontally ? 1 : 0;
+
+		int row = Math.min(first.getRow(), last.getRow());
+		int column = Math.min(first.getColumn(), last.getColumn());
+		while(hasTile(row - rowStep, column - columnStep)) {
+			row -= rowStep;
+			column -= columnStep;
+		}
+
+		List<Tile> word = new ArrayList<>();
+		while(row < game.getBoardSize() && column < game.getBoardSize()) {
+			Tile tile = game.getTile(row, column);
+			for(Tile moveTile : move.getTiles()) {
+				if(moveTile.getRow() == row && moveTile.getColumn() == column) {
+					tile = moveTile;
+				}
+			}
+			if(tile == null) {
+				break;
+			}
+			word.add(tile);
+			row += rowStep;
+			column += columnStep;
+		}
+		return word;
+	}
+
+	/**
+	 * Check that board square has tile.
+	 * @param row row
+	 * @param column column
+	 * @return true if square is on board and has tile
+	 */
+	private boolean hasTile(int row, int column) {
+		return row >= 0 && column >= 0 && row < game.getBoardSize() && column < game.getBoardSize()
+				&& !game.getBoard().isEmpty(row, column);
+	}
+
+	/**
+	 * Check all moves with Tile objects.
+	 * @return sum of points
+	 */
+	@Benchmark
+	public int checkMove() {
+		int sum = 0;
+		for(Move move : moves) {
+			sum += game.checkMove(move);
+		}
+		return sum;
+	}
+
+	/**
+	 * Check all moves from buffers.
+	 * @return sum of points
+	 */
+	@Benchmark
+	public int checkMoveBuffer() {
+		int sum = 0;
+		for(MoveBuffer buffer : buffers) {
+			sum += game.checkMove(buffer);
+		}
+		return sum;
+	}
+
+	/**
+	 * Score main words of all moves.
+	 * @return sum of points
+	 */
+	@Benchmark
+	public int getScore() {
+		int sum = 0;
+		for(List<Tile> word : words) {
+			sum += game.getScore(word);
+		}
+		return sum;
+	}
+
+}
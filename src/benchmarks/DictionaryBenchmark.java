@@ -0,0 +1,108 @@
+package benchmarks;
+
+import main.game.DataManager;
+import main.game.DictionaryType;
+import main.game.WordsDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of dictionary structures: searching words and prefixes of default dictionary.
+ * Every 20th word of dictionary file and its prefixes are searched.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class DictionaryBenchmark {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Every n-th word of dictionary is searched */
+	private static final int WORDS_STEP = 20;
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Dictionary structure */
+	@Param({"WORDS_TREE", "PACKED_WORDS_TREE", "DAWG", "GADDAG"})
+	private DictionaryType type;
+
+	/** Loaded dictionary */
+	private WordsDictionary dictionary;
+
+	/** Searched words */
+	private List<String> words;
+
+	/** Searched prefixes */
+	private List<String> prefixes;
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Load dictionary and choose searched words.
+	 * @throws IOException when loading dictionary fails
+	 */
+	@Setup
+	public void setup() throws IOException {
+		dictionary = type.createDictionary();
+		dictionary.loadWords(DataManager.DEFAULT_DICTIONARY_FILE);
+
+		List<String> lines = Files.readAllLines(Paths.get(DataManager.DEFAULT_DICTIONARY_FILE));
+		words = new ArrayList<>();
+		prefixes = new ArrayList<>();
+		for(int i=0; i<lines.size(); i+=WORDS_STEP) {
+			String word = lines.get(i).toUpperCase();
+			words.add(word);
+			for(int j=1; j<word.length(); j++) {
+				prefixes.add(word.substring(0, j));
+			}
+		}
+	}
+
+	/**
+	 * Search words.
+	 * @return number of found words
+	 */
+	@Benchmark
+	public int searchWord() {
+		int found = 0;
+		for(String word : words) {
+			if(dictionary.searchWord(word)) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Search prefixes.
+	 * @return number of found prefixes
+	 */
+	@Benchmark
+	public int existsPath() {
+		int found = 0;
+		for(String prefix : prefixes) {
+			if(dictionary.existsPath(prefix)) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import main.game.DataManager;
+import main.game.DictionaryFile;
+import main.game.DictionaryType;
+import main.game.WordsDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of loading default dictionary: building every structure from words file
+ * and mapping precompiled DAWG and GADDAG files. Each load is measured once,
+ * like game start.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class DictionaryLoadBenchmark {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Dictionary structure */
+	@Param({"WORDS_TREE", "PACKED_WORDS_TREE", "DAWG", "GADDAG"})
+	private DictionaryType type;
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Build dictionary from words file.
+	 * @return dictionary
+	 * @throws IOException when loading fails
+	 */
+	@Benchmark
+	public WordsDictionary loadWords() throws IOException {
+		WordsDictionary dictionary = type.createDictionary();
+		dictionary.loadWords(DataManager.DEFAULT_DICTIONARY_FILE);
+		return dictionary;
+	}
+
+	/**
+	 * Load dictionary like game does. DAWG and GADDAG are mapped from compiled file.
+	 * @return dictionary
+	 * @throws IOException when loading fails
+	 */
+	@Benchmark
+	public WordsDictionary load() throws IOException {
+		return DictionaryFile.load(type, DataManager.DEFAULT_DICTIONARY_FILE);
+	}
+
+}
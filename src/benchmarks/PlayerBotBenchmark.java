@@ -0,0 +1,96 @@
+package benchmarks;
+
+import main.game.DataManager;
+import main.game.Move;
+import main.game.MoveCollector;
+import main.game.MoveGenerator;
+import main.game.PlayerBot;
+import main.game.Tile;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of bot move search on board fixtures: generating all legal moves,
+ * generating into bounded collector of best moves and 'PlayerBot.getMove()' with maximum difficulty.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerBotBenchmark {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Board fixture name */
+	@Param({"early", "mid", "late", "blank"})
+	private String fixture;
+
+	/** Game with fixture board */
+	private BenchmarkGame game;
+
+	/** Move generator */
+	private MoveGenerator generator;
+
+	/** Collector of best moves */
+	private MoveCollector collector = new MoveCollector(PlayerBot.KEPT_MOVES_COUNT);
+
+	/** Bot playing on fixture board */
+	private PlayerBot bot;
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Load board and create bot.
+	 * @throws IOException when loading game files fails
+	 */
+	@Setup
+	public void setup() throws IOException {
+		game = new BenchmarkGame();
+		game.loadFixture(fixture);
+		generator = new MoveGenerator(game);
+		bot = new PlayerBot("Benchmark Bot", null, DataManager.MAX_DIFFICULTY);
+		bot.setGame(game);
+	}
+
+	/**
+	 * Generate all legal moves.
+	 * @return moves
+	 */
+	@Benchmark
+	public List<Move> generateMoves() {
+		return generator.generateMoves(game.getRack());
+	}
+
+	/**
+	 * Generate all legal moves and keep the best of them.
+	 * @return collector
+	 */
+	@Benchmark
+	public MoveCollector generateTopMoves() {
+		collector.clear();
+		generator.generateMoves(game.getRack(), collector);
+		return collector;
+	}
+
+	/**
+	 * Get bot move. Bot gets full rack every time.
+	 * @return move
+	 */
+	@Benchmark
+	public Move getMove() {
+		bot.setRack(new ArrayList<Tile>(game.getRack()));
+		return bot.getMove();
+	}
+
+}
@@ -0,0 +1,82 @@
+package benchmarks;
+
+import main.game.GameVersion;
+import main.game.Tile;
+import main.game.TileBag;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of tile bag: filling bag, drawing all tiles from it and sampling tiles for simulation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TileBagBenchmark {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Tile bag */
+	private TileBag tileBag;
+
+	/** Random generator of samples */
+	private final SplittableRandom random = new SplittableRandom(23);
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Create tile bag.
+	 * @throws IOException when loading game files fails
+	 */
+	@Setup
+	public void setup() throws IOException {
+		tileBag = new TileBag(GameVersion.SCRABBLE_15x15);
+	}
+
+	/**
+	 * Fill bag.
+	 * @return remaining tiles
+	 */
+	@Benchmark
+	public int initTileBag() {
+		tileBag.initTileBag();
+		return tileBag.getRemainingTilesCount();
+	}
+
+	/**
+	 * Fill bag and draw all tiles.
+	 * @return sum of points of drawn tiles
+	 */
+	@Benchmark
+	public int initAndGrabAll() {
+		tileBag.initTileBag();
+		int sum = 0;
+		Tile tile;
+		while((tile = tileBag.grabTile()) != null) {
+			sum += tile.getPoints();
+		}
+		return sum;
+	}
+
+	/**
+	 * Copy full bag and sample tiles of two racks from it.
+	 * @return number of sampled tiles
+	 */
+	@Benchmark
+	public int copyAndSample() {
+		tileBag.initTileBag();
+		return tileBag.copy().sample(14, random).size();
+	}
+
+}
@@ -1,5 +1,6 @@
 package main.controller;
 
+import javafx.animation.AnimationTimer;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -216,20 +217,29 @@ public abstract class GameController {
 	}
 
 	/**
-	 * Run progress bar with given time in seconds
-	 * @param sec time in seconds to fill progress bar
+	 * Show progress of bot search on progress bar until search ends or is cancelled.<br>
+	 * Progress bar is refreshed on every frame, tooltip shows number of checked moves and best points so far.
+	 * @param search bot search
 	 */
-	public synchronized void runProgressBar(int sec) {
-		new Thread(() -> {
-			for (int i=0; i<100; i++) {
-				progressBar.setProgress((double)i / 100);
-				try {
-					Thread.sleep(sec * 10);
-				} catch (InterruptedException e) {
-					ErrorDialog.show(e, "Error with progress bar");
+	public void runProgressBar(BotSearch search) {
+		progressBar.setProgress(0);
+		Tooltip tooltip = new Tooltip();
+		progressBar.setTooltip(tooltip);
+		new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				progressBar.setProgress(search.getProgress());
+				Move bestMove = search.getBestMove();
+				tooltip.setText("Checked moves: " + search.getMovesEvaluated()
+						+ (bestMove == null ? "" : ", best move: " + bestMove.getPoints() + " points")
+						+ (search.getSimulationsCount() == 0 ? ""
+								: String.format(", simulations: %d (%.0f/s)", search.getSimulationsCount(), search.getSimulationsPerSecond()))
+						+ (search.getEndgameDepth() == 0 ? "" : ", endgame depth: " + search.getEndgameDepth()));
+				if(search.isFinished() || search.isCancelled()) {
+					stop();
 				}
 			}
-		}).start();
+		}.start();
 	}
 
 	/**
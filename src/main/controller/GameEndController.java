@@ -5,6 +5,7 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.*;
+import javafx.scene.paint.Color;
 import main.game.Player;
 
 import java.util.Collections;
@@ -61,7 +62,7 @@ public class GameEndController {
 			nickLabel.getStyleClass().add(NICK_LABEL_STYLE_CLASS);
 			Label pointsLabel = new Label(player.getPoints()+"");
 			Label colorLabel = new Label();
-			colorLabel.setBackground(new Background(new BackgroundFill(player.getColor(), CornerRadii.EMPTY, Insets.EMPTY)));
+			colorLabel.setBackground(new Background(new BackgroundFill(Color.web(player.getColor()), CornerRadii.EMPTY, Insets.EMPTY)));
 			colorLabel.getStyleClass().add(COLOR_LABEL_STYLE_CLASS);
 			pointsLabel.getStyleClass().add(POINTS_LABEL_STYLE_CLASS);
 			hbox.getChildren().add(colorLabel);
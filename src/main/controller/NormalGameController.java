@@ -1,5 +1,6 @@
 package main.controller;
 
+import javafx.application.Platform;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -8,6 +9,7 @@ import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.scene.input.*;
 import javafx.scene.layout.*;
+import javafx.scene.paint.Color;
 import main.game.*;
 
 import java.io.IOException;
@@ -18,12 +20,12 @@ import java.util.Optional;
 
 /**
  * Controller for normal games.<br>
- *
+ * Listens to game events and shows them on JavaFX thread.
  *
  * @author Paweł Okrutny
  * @version 1.0 7.11.2017
  */
-public class NormalGameController extends GameController {
+public class NormalGameController extends GameController implements GameListener {
 
 	// ******************************
 	// Constants
@@ -100,6 +102,7 @@ public class NormalGameController extends GameController {
 		/* Create NormalGame instance */
 		try {
 			game = new NormalGame(MenuController.players, this);
+			logMove("Game seed: " + game.getSeed());
 		} catch (IOException e) {
 			ErrorDialog.show(e, "Could not init new game");
 		}
@@ -112,6 +115,8 @@ public class NormalGameController extends GameController {
 				game.continueGame();
 			}
 		};
+		/* Don't keep application alive when window is closed during bot search */
+		gameThread.setDaemon(true);
 		gameThread.start();
 	}
 
@@ -131,7 +136,7 @@ public class NormalGameController extends GameController {
 		int i = 0;
 		for (Player player : game.getPlayers()) {
 			HBox playerHBox = (HBox)playersVBox.getChildren().get(i);
-			((Label)(playerHBox.getChildren().get(0))).setBackground(new Background(new BackgroundFill(player.getColor(),CornerRadii.EMPTY, Insets.EMPTY)));
+			((Label)(playerHBox.getChildren().get(0))).setBackground(new Background(new BackgroundFill(Color.web(player.getColor()),CornerRadii.EMPTY, Insets.EMPTY)));
 			((Label)(playerHBox.getChildren().get(1))).setText(player.getNick());
 			((Label)(playerHBox.getChildren().get(2))).setText(""+player.getPoints());
 			i++;
@@ -258,7 +263,7 @@ public class NormalGameController extends GameController {
 	 */
 	public void setCurrentPlayer(Player player) {
 		currentPlayerLabel.setText(player.getNick());
-		currentPlayerColorLabel.setBackground(new Background(new BackgroundFill(player.getColor(),CornerRadii.EMPTY, Insets.EMPTY)));
+		currentPlayerColorLabel.setBackground(new Background(new BackgroundFill(Color.web(player.getColor()),CornerRadii.EMPTY, Insets.EMPTY)));
 	}
 
 	/**
@@ -350,6 +355,7 @@ public class NormalGameController extends GameController {
 				move = new Move();
 			}
 		};
+		gameThread.setDaemon(true);
 		gameThread.start();
 	}
 
@@ -440,6 +446,7 @@ public class NormalGameController extends GameController {
 				game.passMove();
 			}
 		};
+		gameThread.setDaemon(true);
 		gameThread.start();
 	}
 
@@ -452,5 +459,77 @@ public class NormalGameController extends GameController {
 		openNewWindow(MENU_FXML);
 	}
 
+	/**
+	 * Refresh points table and current player.
+	 * @param player current player
+	 */
+	@Override
+	public void onTurnStarted(Player player) {
+		Platform.runLater(()->{
+			showPointsTable();
+			setCurrentPlayer(player);
+		});
+	}
+
+	/**
+	 * Show rack of human player and enable UI.
+	 * @param player current player
+	 */
+	@Override
+	public void onHumanTurn(Player player) {
+		Platform.runLater(()->{
+			showCheckMoveFeedback();
+			setRackHBox(player);
+			enableUI();
+		});
+	}
+
+	/**
+	 * Disable UI elements and run progress bar while bot is searching.
+	 * @param player current bot
+	 */
+	@Override
+	public void onBotTurn(Player player) {
+		BotSearch search = game.getBotSearch();
+		Platform.runLater(()->{
+			disableUI();
+			runProgressBar(search);
+		});
+	}
+
+	/**
+	 * Log bot move and place its tiles on board.
+	 * @param player current bot
+	 * @param move bot move
+	 * @param points move points
+	 */
+	@Override
+	public void onBotMove(Player player, Move move, int points) {
+		Platform.runLater(()->{
+			logMove(player.getNick() + " played for " + points + " points");
+			commitBotMove(move);
+		});
+	}
+
+	/**
+	 * Log that bot passed move.
+	 * @param player current bot
+	 */
+	@Override
+	public void onBotPass(Player player) {
+		Platform.runLater(()->{
+			logMove(player.getNick() + " has passed move");
+		});
+	}
+
+	/**
+	 * Show conclusion table.
+	 */
+	@Override
+	public void onGameEnded() {
+		Platform.runLater(()->{
+			endGame();
+		});
+	}
 
 }
@@ -140,9 +140,9 @@ public class PlayerConfigurationDialogController {
 			boolean isBot = ((CheckBox) (((hBoxList.get(i)).getChildren().get(3)))).isSelected();
 			if(isBot) {
 				int difficulty = (int)((Slider) (((hBoxList.get(i)).getChildren().get(4)))).getValue();
-				players.add(new PlayerBot("(CPU)"+nick, color, difficulty));
+				players.add(new PlayerBot("(CPU)"+nick, color.toString(), difficulty));
 			} else {
-				players.add(new PlayerHuman(nick, color));
+				players.add(new PlayerHuman(nick, color.toString()));
 			}
 		}
 		return players;
@@ -12,7 +12,9 @@ import javafx.scene.control.SpinnerValueFactory;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import main.game.BotStrategy;
 import main.game.DataManager;
+import main.game.DictionaryType;
 import main.game.GameVersion;
 
 import javax.xml.stream.XMLStreamException;
@@ -54,10 +56,22 @@ public class SettingsController {
 	@FXML
 	private Label dictionaryFileLabel;
 
+	/** ChoiceBox with dictionary structures */
+	@FXML
+	private ChoiceBox dictionaryTypeChoiceBox;
+
 	/** Bot time in seconds Spinner */
 	@FXML
 	private Spinner botTimeScaleSpinner;
 
+	/** ChoiceBox with bot strategies */
+	@FXML
+	private ChoiceBox botStrategyChoiceBox;
+
+	/** Number of bot threads Spinner */
+	@FXML
+	private Spinner botParallelismSpinner;
+
 	/** Info Label */
 	@FXML
 	private Label savedInfoLabel;
@@ -85,10 +99,16 @@ public class SettingsController {
 	public void initialize() {
 		gameVersionChoiceBox.setValue(DataManager.getGameVersion().toString());
 		dictionaryFileLabel.setText(DataManager.getDictionaryFilePath());
+		dictionaryTypeChoiceBox.setValue(DataManager.getDictionaryType().toString());
+		botStrategyChoiceBox.setValue(DataManager.getBotStrategy().toString());
 		SpinnerValueFactory<Integer> valueFactory =
 				new SpinnerValueFactory.IntegerSpinnerValueFactory(DataManager.MIN_BOT_TIME, DataManager.MAX_BOT_TIME, DataManager.getBotTime());
 		botTimeScaleSpinner.setValueFactory(valueFactory);
 		botTimeScaleSpinner.getStyleClass().add(Spinner.STYLE_CLASS_ARROWS_ON_RIGHT_HORIZONTAL);
+		SpinnerValueFactory<Integer> parallelismValueFactory =
+				new SpinnerValueFactory.IntegerSpinnerValueFactory(DataManager.MIN_BOT_PARALLELISM, DataManager.MAX_BOT_PARALLELISM, DataManager.getBotParallelism());
+		botParallelismSpinner.setValueFactory(parallelismValueFactory);
+		botParallelismSpinner.getStyleClass().add(Spinner.STYLE_CLASS_ARROWS_ON_RIGHT_HORIZONTAL);
 	}
 
 	/**
@@ -116,6 +136,11 @@ public class SettingsController {
 		String gameVersionString = gameVersionChoiceBox.getSelectionModel().getSelectedItem().toString();
 		DataManager.setGameVersion(GameVersion.getEnum(gameVersionString));
 		DataManager.setBotTime((int)botTimeScaleSpinner.getValue());
+		DataManager.setBotParallelism((int)botParallelismSpinner.getValue());
+		String botStrategyString = botStrategyChoiceBox.getSelectionModel().getSelectedItem().toString();
+		DataManager.setBotStrategy(BotStrategy.getEnum(botStrategyString));
+		String dictionaryTypeString = dictionaryTypeChoiceBox.getSelectionModel().getSelectedItem().toString();
+		DataManager.setDictionaryType(DictionaryType.getEnum(dictionaryTypeString));
 
 		DataManager.setDictionaryFilePath(dictionaryFileLabel.getText());
 		try {
@@ -133,9 +158,14 @@ public class SettingsController {
 	public void restoreDefaultSettings() {
 		gameVersionChoiceBox.setValue(DataManager.DEFAULT_GAME_VERSION.toString());
 		dictionaryFileLabel.setText(DataManager.DEFAULT_DICTIONARY_FILE);
+		dictionaryTypeChoiceBox.setValue(DataManager.DEFAULT_DICTIONARY_TYPE.toString());
+		botStrategyChoiceBox.setValue(DataManager.DEFAULT_BOT_STRATEGY.toString());
 		SpinnerValueFactory<Integer> valueFactory =
 				new SpinnerValueFactory.IntegerSpinnerValueFactory(DataManager.MIN_BOT_TIME, DataManager.MAX_BOT_TIME, DataManager.DEFAULT_BOT_TIME_SECONDS);
 		botTimeScaleSpinner.setValueFactory(valueFactory);
+		SpinnerValueFactory<Integer> parallelismValueFactory =
+				new SpinnerValueFactory.IntegerSpinnerValueFactory(DataManager.MIN_BOT_PARALLELISM, DataManager.MAX_BOT_PARALLELISM, DataManager.DEFAULT_BOT_PARALLELISM);
+		botParallelismSpinner.setValueFactory(parallelismValueFactory);
 		showDefaultSettingsInfoLabel();
 	}
 
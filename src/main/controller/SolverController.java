@@ -249,11 +249,12 @@ public class SolverController extends GameController {
 				((TileGridPane) node).setAsJustPlaced(false);
 			}});
 
-		runProgressBar(DataManager.getBotTime());
+		BotSearch search = new BotSearch(DataManager.getBotTime() * 1000L);
+		runProgressBar(search);
 		/* Run thread of solver */
 		solverThread = new Thread(){
 			public void run(){
-				botMove = solver.solve(board, new ArrayList(rack));
+				botMove = solver.solve(board, new ArrayList(rack), search);
 				Platform.runLater(()->{
 					if(botMove == null) {
 						feedbackLabel.setText("Solver was not able to find proper move");
@@ -267,6 +268,8 @@ public class SolverController extends GameController {
 			}
 		};
 
+		/* Solver thread mustn't keep closed application alive */
+		solverThread.setDaemon(true);
 		solverThread.start();
 	}
 
@@ -0,0 +1,416 @@
+package main.game;
+
+import java.util.Arrays;
+
+/**
+ * Class that keeps tiles on board in primitive arrays.<br>
+ * Every square has one byte code: 0 for empty square, otherwise letter index + 1 with
+ * blank flag, and one byte with points of tile. Codes and points of all squares are kept
+ * row by row in single array, so board is copied or saved by few array copies and scanned
+ * without following references. Letter and word multipliers of squares are computed from
+ * board scheme once.
+ * <br>
+ * Occupied squares are also kept as bitsets, one long per row and one per column, with
+ * anchor masks (empty squares next to a tile) derived from them on every change. So
+ * neighbour and anchor queries are a few bit operations and move generator can iterate
+ * anchors of a line directly. Bitsets limit board size to MAX_SIZE.
+ * <br>
+ * Tile objects are created only on request, eg. for user interface.
+ */
+public class Board {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Code of empty square */
+	public static final int EMPTY = 0;
+
+	/** Flag of blank tile in square code */
+	public static final int BLANK_FLAG = 0x40;
+
+	/** Max board size, bits of one line must fit in long */
+	public static final int MAX_SIZE = Long.SIZE;
+
+	/** Mask of letter in square code */
+	private static final int LETTER_MASK = 0x3F;
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Board size */
+	private final int size;
+
+	/** Number of squares */
+	private final int squaresCount;
+
+	/** Codes of squares and then points of their tiles */
+	private final byte[] squares;
+
+	/** Letter multipliers of squares */
+	private final byte[] letterMultipliers;
+
+	/** Word multipliers of squares */
+	private final byte[] wordMultipliers;
+
+	/** Squares where first move must begin */
+	private final boolean[] begins;
+
+	/** Bits of full line */
+	private final long lineMask;
+
+	/** Occupied squares of every row, bit per column */
+	private final long[] rows;
+
+	/** Occupied squares of every column, bit per row */
+	private final long[] columns;
+
+	/** Anchors of every row, bit per column */
+	private final long[] rowAnchors;
+
+	/** Anchors of every column, bit per row */
+	private final long[] columnAnchors;
+
+	/** Begin squares of every row, bit per column */
+	private final long[] rowBegins;
+
+	/** Begin squares of every column, bit per row */
+	private final long[] columnBegins;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor. Create empty board.
+	 * @param size board size, at most MAX_SIZE
+	 * @param bonuses board scheme
+	 */
+	public Board(int size, BoardBonus[][] bonuses) {
+		if(size < 1 || size > MAX_SIZE) {
+			throw new IllegalArgumentException("Board size must be from 1 to " + MAX_SIZE + ": " + size);
+		}
+		this.size = size;
+		squaresCount = size * size;
+		squares = new byte[2 * squaresCount];
+		letterMultipliers = new byte[squaresCount];
+		wordMultipliers = new byte[squaresCount];
+		begins = new boolean[squaresCount];
+		lineMask = (size == Long.SIZE) ? -1L : (1L << size) - 1;
+		rows = new long[size];
+		columns = new long[size];
+		rowAnchors = new long[size];
+		columnAnchors = new long[size];
+		rowBegins = new long[size];
+		columnBegins = new long[size];
+		for(int row=0; row<size; row++) {
+			for(int column=0; column<size; column++) {
+				int index = row * size + column;
+				BoardBonus bonus = (bonuses == null) ? BoardBonus.STANDARD : bonuses[row][column];
+				letterMultipliers[index] = (byte) bonus.getLetterMultiplier();
+				wordMultipliers[index] = (byte) bonus.getWordMultiplier();
+				begins[index] = (bonus == BoardBonus.BEGIN);
+				if(begins[index]) {
+					rowBegins[row] |= 1L << column;
+					columnBegins[column] |= 1L << row;
+				}
+			}
+		}
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Put tile on square.
+	 * @param row row
+	 * @param column column
+	 * @param letter capital letter
+	 * @param blank true if tile is blank used as letter
+	 * @param points tile points
+	 */
+	public void set(int row, int column, char letter, boolean blank, int points) {
+		int index = row * size + column;
+		squares[index] = (byte) ((letter - 'A' + 1) | (blank ? BLANK_FLAG : 0));
+		squares[squaresCount + index] = (byte) points;
+		rows[row] |= 1L << column;
+		columns[column] |= 1L << row;
+		updateAnchors(row, column);
+	}
+
+	/**
+	 * Put tile on its square.
+	 * @param tile tile with row and column set
+	 */
+	public void set(Tile tile) {
+		set(tile.getRow(), tile.getColumn(), tile.getLetter(), tile.isStar(), tile.getPoints());
+	}
+
+	/**
+	 * Remove tile from square.
+	 * @param row row
+	 * @param column column
+	 */
+	public void clear(int row, int column) {
+		int index = row * size + column;
+		squares[index] = EMPTY;
+		squares[squaresCount + index] = 0;
+		rows[row] &= ~(1L << column);
+		columns[column] &= ~(1L << row);
+		updateAnchors(row, column);
+	}
+
+	/**
+	 * Remove all tiles.
+	 */
+	public void clear() {
+		Arrays.fill(squares, (byte) 0);
+		Arrays.fill(rows, 0);
+		Arrays.fill(columns, 0);
+		Arrays.fill(rowAnchors, 0);
+		Arrays.fill(columnAnchors, 0);
+	}
+
+	/**
+	 * Copy tiles of other board with same size.
+	 * @param other board to copy
+	 */
+	public void copyFrom(Board other) {
+		System.arraycopy(other.squares, 0, squares, 0, squares.length);
+		System.arraycopy(other.rows, 0, rows, 0, size);
+		System.arraycopy(other.columns, 0, columns, 0, size);
+		System.arraycopy(other.rowAnchors, 0, rowAnchors, 0, size);
+		System.arraycopy(other.columnAnchors, 0, columnAnchors, 0, size);
+	}
+
+	/**
+	 * Save tiles on board.
+	 * @return snapshot to restore
+	 */
+	public byte[] snapshot() {
+		return squares.clone();
+	}
+
+	/**
+	 * Restore tiles saved by 'snapshot()'.
+	 * @param snapshot saved tiles
+	 */
+	public void restore(byte[] snapshot) {
+		System.arraycopy(snapshot, 0, squares, 0, squares.length);
+		Arrays.fill(rows, 0);
+		Arrays.fill(columns, 0);
+		for(int row=0; row<size; row++) {
+			for(int column=0; column<size; column++) {
+				if(squares[row * size + column] != EMPTY) {
+					rows[row] |= 1L << column;
+					columns[column] |= 1L << row;
+				}
+			}
+		}
+		for(int line=0; line<size; line++) {
+			rowAnchors[line] = computeAnchors(rows, line);
+			columnAnchors[line] = computeAnchors(columns, line);
+		}
+	}
+
+	/**
+	 * Recompute anchors of lines around changed square.
+	 * @param row row of changed square
+	 * @param column column of changed square
+	 */
+	private void updateAnchors(int row, int column) {
+		for(int line=Math.max(row - 1, 0); line<=Math.min(row + 1, size - 1); line++) {
+			rowAnchors[line] = computeAnchors(rows, line);
+		}
+		for(int line=Math.max(column - 1, 0); line<=Math.min(column + 1, size - 1); line++) {
+			columnAnchors[line] = computeAnchors(columns, line);
+		}
+	}
+
+	/**
+	 * Compute anchors of line: empty squares with tile before, after or on any side across.
+	 * @param lines occupied squares of rows or of columns
+	 * @param line index of line
+	 * @return anchor bits
+	 */
+	private long computeAnchors(long[] lines, int line) {
+		long occupied = lines[line];
+		long neighbours = (occupied << 1) | (occupied >>> 1);
+		if(line > 0) {
+			neighbours |= lines[line - 1];
+		}
+		if(line < size - 1) {
+			neighbours |= lines[line + 1];
+		}
+		return neighbours & ~occupied & lineMask;
+	}
+
+	/**
+	 * Check that square is empty.
+	 * @param row row
+	 * @param column column
+	 * @return true if there is no tile
+	 */
+	public boolean isEmpty(int row, int column) {
+		return squares[row * size + column] == EMPTY;
+	}
+
+	/**
+	 * Check that square is on board and has tile.
+	 * @param row row, may be outside of board
+	 * @param column column, may be outside of board
+	 * @return true if there is tile
+	 */
+	public boolean hasTile(int row, int column) {
+		return row >= 0 && row < size && column >= 0 && column < size && (rows[row] & (1L << column)) != 0;
+	}
+
+	/**
+	 * Check that square has tile on any side.
+	 * @param row row
+	 * @param column column
+	 * @return true if there is tile next to square
+	 */
+	public boolean hasNeighbour(int row, int column) {
+		long around = (rows[row] << 1) | (rows[row] >>> 1);
+		if(row > 0) {
+			around |= rows[row - 1];
+		}
+		if(row < size - 1) {
+			around |= rows[row + 1];
+		}
+		return (around & (1L << column)) != 0;
+	}
+
+	/**
+	 * Get occupied squares of line.
+	 * @param line row or column index
+	 * @param horizontally true for row, false for column
+	 * @return bit per square, lowest bit is first square
+	 */
+	public long getOccupiedMask(int line, boolean horizontally) {
+		return horizontally ? rows[line] : columns[line];
+	}
+
+	/**
+	 * Get anchors of line: empty squares next to a tile.
+	 * @param line row or column index
+	 * @param horizontally true for row, false for column
+	 * @return bit per square, lowest bit is first square
+	 */
+	public long getAnchorMask(int line, boolean horizontally) {
+		return horizontally ? rowAnchors[line] : columnAnchors[line];
+	}
+
+	/**
+	 * Get begin squares of line.
+	 * @param line row or column index
+	 * @param horizontally true for row, false for column
+	 * @return bit per square, lowest bit is first square
+	 */
+	public long getBeginMask(int line, boolean horizontally) {
+		return horizontally ? rowBegins[line] : columnBegins[line];
+	}
+
+	/**
+	 * Get code of square.
+	 * @param row row
+	 * @param column column
+	 * @return EMPTY or letter index + 1 with BLANK_FLAG
+	 */
+	public int getCode(int row, int column) {
+		return squares[row * size + column];
+	}
+
+	/**
+	 * Get letter of tile on square.
+	 * @param row row
+	 * @param column column
+	 * @return capital letter or 0 if square is empty
+	 */
+	public char getLetter(int row, int column) {
+		int code = squares[row * size + column] & LETTER_MASK;
+		return code == EMPTY ? 0 : (char) ('A' + code - 1);
+	}
+
+	/**
+	 * Check that tile on square is blank.
+	 * @param row row
+	 * @param column column
+	 * @return true if blank
+	 */
+	public boolean isBlank(int row, int column) {
+		return (squares[row * size + column] & BLANK_FLAG) != 0;
+	}
+
+	/**
+	 * Get points of tile on square.
+	 * @param row row
+	 * @param column column
+	 * @return points, 0 if square is empty
+	 */
+	public int getPoints(int row, int column) {
+		return squares[squaresCount + row * size + column];
+	}
+
+	/**
+	 * Get letter multiplier of square.
+	 * @param row row
+	 * @param column column
+	 * @return multiplier
+	 */
+	public int getLetterMultiplier(int row, int column) {
+		return letterMultipliers[row * size + column];
+	}
+
+	/**
+	 * Get word multiplier of square.
+	 * @param row row
+	 * @param column column
+	 * @return multiplier
+	 */
+	public int getWordMultiplier(int row, int column) {
+		return wordMultipliers[row * size + column];
+	}
+
+	/**
+	 * Check that first move can begin on square.
+	 * @param row row
+	 * @param column column
+	 * @return true for begin square
+	 */
+	public boolean isBegin(int row, int column) {
+		return begins[row * size + column];
+	}
+
+	/**
+	 * Create tile object of square.
+	 * @param row row
+	 * @param column column
+	 * @return new tile with position set or null if square is empty
+	 */
+	public Tile getTile(int row, int column) {
+		if(isEmpty(row, column)) {
+			return null;
+		}
+		Tile tile = new Tile(isBlank(row, column) ? '*' : getLetter(row, column), getPoints(row, column));
+		tile.setLetter(getLetter(row, column));
+		tile.setRow(row);
+		tile.setColumn(column);
+		return tile;
+	}
+
+	/**
+	 * Get board size.
+	 * @return size
+	 */
+	public int getSize() {
+		return size;
+	}
+
+}
@@ -12,12 +12,12 @@ public enum BoardBonus {
 	// Constants
 	// **************************************************
 
-	BEGIN("\u2605"),
-	STANDARD(""),
-	DOUBLE_WORD("DW"),
-	TRIPLE_WORD("TW"),
-	DOUBLE_LETTER("DL"),
-	TRIPLE_LETTER("TL");
+	BEGIN("\u2605", 1, 1),
+	STANDARD("", 1, 1),
+	DOUBLE_WORD("DW", 1, 2),
+	TRIPLE_WORD("TW", 1, 3),
+	DOUBLE_LETTER("DL", 2, 1),
+	TRIPLE_LETTER("TL", 3, 1);
 
 	// **************************************************
 	// Fields
@@ -26,6 +26,12 @@ public enum BoardBonus {
 	/** Board bonus as string */
 	private String shortcut;
 
+	/** Multiplier of letter points placed on square */
+	private final int letterMultiplier;
+
+	/** Multiplier of word points if letter placed on square */
+	private final int wordMultiplier;
+
 	// **************************************************
 	// Constructors
 	// **************************************************
@@ -33,15 +39,35 @@ public enum BoardBonus {
 	/**
 	 * Parameterized constructor.
 	 * @param shortcut string shortcut
+	 * @param letterMultiplier letter points multiplier
+	 * @param wordMultiplier word points multiplier
 	 */
-	BoardBonus(String shortcut) {
+	BoardBonus(String shortcut, int letterMultiplier, int wordMultiplier) {
 		this.shortcut = shortcut;
+		this.letterMultiplier = letterMultiplier;
+		this.wordMultiplier = wordMultiplier;
 	}
 
 	// **************************************************
 	// Methods
 	// **************************************************
 
+	/**
+	 * Get multiplier of letter points placed on square.
+	 * @return letter multiplier
+	 */
+	public int getLetterMultiplier() {
+		return letterMultiplier;
+	}
+
+	/**
+	 * Get multiplier of word points if letter placed on square.
+	 * @return word multiplier
+	 */
+	public int getWordMultiplier() {
+		return wordMultiplier;
+	}
+
 	/**
 	 * Return shortcut as String
 	 * @return shortcut
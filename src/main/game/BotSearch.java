@@ -0,0 +1,269 @@
+package main.game;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class that represents single search of bot move.<br>
+ * Search has deadline and can be cancelled from other thread (eg. when game ends). Generators
+ * check it before every board line, so search stops within one line. Number of searched lines,
+ * number of checked moves and best move found so far are published while search runs,
+ * so user interface can show progress. Search is finished early when all lines are searched
+ * (and all planned simulations are done, if bot simulates games) or when endgame is solved.
+ */
+public class BotSearch {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Search start time in nanoseconds */
+	private final long start;
+
+	/** Search deadline in nanoseconds */
+	private final long deadline;
+
+	/** Simulations start time in nanoseconds, 0 before simulations */
+	private volatile long simulationStart = 0;
+
+	/** Max number of simulations */
+	private volatile int simulationsLimit = 0;
+
+	/** Endgame search start time in nanoseconds, 0 if bot doesn't solve endgame */
+	private volatile long endgameStart = 0;
+
+	/** Last finished depth of endgame search */
+	private volatile int endgameDepth = 0;
+
+	/** True if search was cancelled */
+	private volatile boolean cancelled = false;
+
+	/** True if search ended */
+	private volatile boolean finished = false;
+
+	/** Search end time in nanoseconds */
+	private volatile long end;
+
+	/** Number of lines to search, 0 if not known yet */
+	private volatile int linesCount = 0;
+
+	/** Number of searched lines */
+	private final AtomicInteger linesDone = new AtomicInteger();
+
+	/** Number of checked moves */
+	private final LongAdder movesEvaluated = new LongAdder();
+
+	/** Number of simulated games */
+	private final LongAdder simulations = new LongAdder();
+
+	/** Best move found so far */
+	private volatile Move bestMove;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor. Search starts now.
+	 * @param timeLimit max search time in milliseconds
+	 */
+	public BotSearch(long timeLimit) {
+		start = System.nanoTime();
+		deadline = start + TimeUnit.MILLISECONDS.toNanos(timeLimit);
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Check that search should stop.
+	 * @return true if search was cancelled, finished or deadline passed
+	 */
+	public boolean shouldStop() {
+		return cancelled || finished || System.nanoTime() - deadline > 0;
+	}
+
+	/**
+	 * Cancel search. Bot returns best move found so far.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Mark search as ended.
+	 */
+	public void finish() {
+		end = System.nanoTime();
+		finished = true;
+	}
+
+	/**
+	 * Set number of lines to search.
+	 * @param linesCount lines count
+	 */
+	public void setLinesCount(int linesCount) {
+		this.linesCount = linesCount;
+	}
+
+	/**
+	 * Report searched line.
+	 * @param moves number of moves checked on line
+	 */
+	public void lineDone(long moves) {
+		movesEvaluated.add(moves);
+		linesDone.incrementAndGet();
+	}
+
+	/**
+	 * Report start of simulations.
+	 * @param simulationsLimit max number of simulations
+	 */
+	public void startSimulations(int simulationsLimit) {
+		simulationStart = System.nanoTime();
+		this.simulationsLimit = simulationsLimit;
+	}
+
+	/**
+	 * Report start of endgame search.
+	 */
+	public void startEndgame() {
+		endgameStart = System.nanoTime();
+	}
+
+	/**
+	 * Report finished depth of endgame search.
+	 * @param endgameDepth depth in plies
+	 */
+	public void setEndgameDepth(int endgameDepth) {
+		this.endgameDepth = endgameDepth;
+	}
+
+	/**
+	 * Report checked moves outside of board lines (eg. positions of endgame search).
+	 * @param moves number of moves
+	 */
+	public void addMovesEvaluated(long moves) {
+		movesEvaluated.add(moves);
+	}
+
+	/**
+	 * Report simulated games.
+	 * @param count number of simulations
+	 */
+	public void addSimulations(int count) {
+		simulations.add(count);
+	}
+
+	/**
+	 * Report move that may be better than best move so far.
+	 * @param move move with points set
+	 */
+	public synchronized void offer(Move move) {
+		if(bestMove == null || move.getPoints() > bestMove.getPoints()) {
+			bestMove = move;
+		}
+	}
+
+	/**
+	 * Check that search was cancelled.
+	 * @return true if cancelled
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Check that search ended.
+	 * @return true if ended
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+
+	/**
+	 * Check that every line was searched.
+	 * @return true if whole move space was searched
+	 */
+	public boolean isExhausted() {
+		return linesCount > 0 && linesDone.get() >= linesCount;
+	}
+
+	/**
+	 * Get search progress.
+	 * @return part of searched lines or, during simulations, part of time or simulations
+	 * or, during endgame search, part of time, 0 - 1
+	 */
+	public double getProgress() {
+		if(finished) {
+			return 1;
+		}
+		long endgame = endgameStart;
+		if(endgame != 0) {
+			long time = deadline - endgame;
+			return time <= 0 ? 1 : Math.min(1, (double) (System.nanoTime() - endgame) / time);
+		}
+		int limit = simulationsLimit;
+		if(limit > 0) {
+			long time = deadline - simulationStart;
+			double timeProgress = time <= 0 ? 1 : (double) (System.nanoTime() - simulationStart) / time;
+			return Math.min(1, Math.max(timeProgress, (double) simulations.sum() / limit));
+		}
+		int count = linesCount;
+		return count == 0 ? 0 : Math.min(1, (double) linesDone.get() / count);
+	}
+
+	/**
+	 * Get number of checked moves.
+	 * @return moves count
+	 */
+	public long getMovesEvaluated() {
+		return movesEvaluated.sum();
+	}
+
+	/**
+	 * Get number of simulated games.
+	 * @return simulations count
+	 */
+	public long getSimulationsCount() {
+		return simulations.sum();
+	}
+
+	/**
+	 * Get simulated games per second.
+	 * @return simulations per second, 0 before simulations
+	 */
+	public double getSimulationsPerSecond() {
+		long time = (finished ? end : System.nanoTime()) - simulationStart;
+		return simulationStart == 0 || time <= 0 ? 0 : simulations.sum() * 1e9 / time;
+	}
+
+	/**
+	 * Get last finished depth of endgame search.
+	 * @return depth in plies, 0 if endgame isn't searched
+	 */
+	public int getEndgameDepth() {
+		return endgameDepth;
+	}
+
+	/**
+	 * Get best move found so far.
+	 * @return move or null
+	 */
+	public Move getBestMove() {
+		return bestMove;
+	}
+
+	/**
+	 * Get time since search start.
+	 * @return time in milliseconds
+	 */
+	public long getElapsedTime() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+
+}
@@ -0,0 +1,69 @@
+package main.game;
+
+/**
+ * Enum class with ways of choosing bot move.
+ */
+public enum BotStrategy {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Move is chosen by points and difficulty */
+	POINTS("Points"),
+
+	/** Move is chosen by points and value of tiles left on rack, then by difficulty */
+	LEAVE("Points and leave"),
+
+	/** Best moves are compared by simulated opponent replies (max difficulty), otherwise as POINTS */
+	SIMULATION("Simulation");
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Strategy in String */
+	private final String strategyString;
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor with String.
+	 * @param strategyString String version of enum
+	 */
+	BotStrategy(String strategyString) {
+		this.strategyString = strategyString;
+	}
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * With given string get proper enum.
+	 * @param strategyString String as enum
+	 * @return enum
+	 */
+	public static BotStrategy getEnum(String strategyString) {
+		switch(strategyString){
+			case "Points":
+				return POINTS;
+			case "Points and leave":
+				return LEAVE;
+			case "Simulation":
+				return SIMULATION;
+		}
+		return POINTS;
+	}
+
+	/**
+	 * Return enum as String.
+	 * @return enum as string
+	 */
+	@Override
+	public String toString() {
+		return strategyString;
+	}
+}
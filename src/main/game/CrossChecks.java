@@ -0,0 +1,296 @@
+package main.game;
+
+import java.util.Arrays;
+
+/**
+ * Class that keeps cross-checks of every board square.<br>
+ * Cross-check is a mask of letters (bit 0 is 'A') that make valid word with tiles placed
+ * perpendicular to move direction, with points of those tiles. Squares without
+ * perpendicular tiles allow all letters. Separate values are kept for moves in rows
+ * and in columns.
+ * <br>
+ * Cross-checks change only at ends of lines of tiles, so they are updated only
+ * around placed tiles. Placement is then checked with single bit test.
+ * <br>
+ * While some mark is set, previous values of changed squares are kept in journal,
+ * so placed moves can be taken back by rollback to the mark.
+ */
+public class CrossChecks {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Mask with all letters allowed */
+	public static final int ALL_LETTERS = PackedWordsGraph.LETTERS_MASK;
+
+	/** Score of square without perpendicular word */
+	public static final int NO_CROSS_WORD = -1;
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Board size */
+	private int size;
+
+	/** Dictionary cursor used to check perpendicular words */
+	private DictionaryCursor cursor;
+
+	/** Allowed letters of every square for move in row */
+	private int[] rowMasks;
+
+	/** Allowed letters of every square for move in column */
+	private int[] columnMasks;
+
+	/** Points of perpendicular word of every square for move in row */
+	private int[] rowScores;
+
+	/** Points of perpendicular word of every square for move in column */
+	private int[] columnScores;
+
+	/** Changed squares (index * 2, plus 1 for column), their previous masks and scores */
+	private int[] journal = new int[3 * 64];
+
+	/** Number of used journal entries */
+	private int journalSize = 0;
+
+	/** Number of marks not rolled back */
+	private int marksCount = 0;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor. Create cross-checks of empty board.
+	 * @param dictionary dictionary with valid words
+	 * @param size board size
+	 */
+	public CrossChecks(WordsDictionary dictionary, int size) {
+		this.size = size;
+		cursor = dictionary.getCursor();
+		rowMasks = new int[size * size];
+		columnMasks = new int[size * size];
+		rowScores = new int[size * size];
+		columnScores = new int[size * size];
+		reset();
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Set cross-checks of empty board.
+	 */
+	public void reset() {
+		for(int i=0; i<size*size; i++) {
+			rowMasks[i] = ALL_LETTERS;
+			columnMasks[i] = ALL_LETTERS;
+			rowScores[i] = NO_CROSS_WORD;
+			columnScores[i] = NO_CROSS_WORD;
+		}
+		journalSize = 0;
+		marksCount = 0;
+	}
+
+	/**
+	 * Start keeping changes, so they can be rolled back.
+	 * @return mark to roll back to
+	 */
+	public int mark() {
+		marksCount++;
+		return journalSize;
+	}
+
+	/**
+	 * Restore cross-checks from the moment of mark. Marks set later are dropped.
+	 * @param mark mark returned by 'mark()'
+	 */
+	public void rollback(int mark) {
+		while(journalSize > mark) {
+			journalSize -= 3;
+			int entry = journal[journalSize];
+			int index = entry >> 1;
+			if((entry & 1) == 0) {
+				rowMasks[index] = journal[journalSize + 1];
+				rowScores[index] = journal[journalSize + 2];
+			} else {
+				columnMasks[index] = journal[journalSize + 1];
+				columnScores[index] = journal[journalSize + 2];
+			}
+		}
+		marksCount = Math.max(0, marksCount - 1);
+	}
+
+	/**
+	 * Copy cross-checks of other board with same size.
+	 * @param other cross-checks to copy
+	 */
+	public void copyFrom(CrossChecks other) {
+		System.arraycopy(other.rowMasks, 0, rowMasks, 0, size * size);
+		System.arraycopy(other.columnMasks, 0, columnMasks, 0, size * size);
+		System.arraycopy(other.rowScores, 0, rowScores, 0, size * size);
+		System.arraycopy(other.columnScores, 0, columnScores, 0, size * size);
+	}
+
+	/**
+	 * Update cross-checks after tile was placed on board.<br>
+	 * Only empty squares at ends of tile's row and column lines are computed again.
+	 * @param board board with placed tile
+	 * @param row placed tile row
+	 * @param column placed tile column
+	 */
+	public void update(Board board, int row, int column) {
+		/* Column line changes words crossing moves in rows */
+		int top = row;
+		while(top > 0 && !board.isEmpty(top - 1, column)) {
+			top--;
+		}
+		int bottom = row;
+		while(bottom < size - 1 && !board.isEmpty(bottom + 1, column)) {
+			bottom++;
+		}
+		if(top > 0) {
+			compute(board, top - 1, column, true);
+		}
+		if(bottom < size - 1) {
+			compute(board, bottom + 1, column, true);
+		}
+
+		/* Row line changes words crossing moves in columns */
+		int left = column;
+		while(left > 0 && !board.isEmpty(row, left - 1)) {
+			left--;
+		}
+		int right = column;
+		while(right < size - 1 && !board.isEmpty(row, right + 1)) {
+			right++;
+		}
+		if(left > 0) {
+			compute(board, row, left - 1, false);
+		}
+		if(right < size - 1) {
+			compute(board, row, right + 1, false);
+		}
+	}
+
+	/**
+	 * Compute cross-check of empty square from tiles around it.
+	 * @param board board
+	 * @param row square row
+	 * @param column square column
+	 * @param horizontally true for move in row (word in column), false for move in column
+	 */
+	private void compute(Board board, int row, int column, boolean horizontally) {
+		int rowStep = horizontally ? 1 : 0;
+		int columnStep = horizontally ? 0 : 1;
+
+		/* Find beginning of perpendicular word */
+		int startRow = row;
+		int startColumn = column;
+		while(board.hasTile(startRow - rowStep, startColumn - columnStep)) {
+			startRow -= rowStep;
+			startColumn -= columnStep;
+		}
+		boolean hasBefore = (startRow != row || startColumn != column);
+		boolean hasAfter = board.hasTile(row + rowStep, column + columnStep);
+
+		int[] masks = horizontally ? rowMasks : columnMasks;
+		int[] scores = horizontally ? rowScores : columnScores;
+		int index = row * size + column;
+		if(marksCount > 0) {
+			if(journalSize == journal.length) {
+				journal = Arrays.copyOf(journal, 2 * journal.length);
+			}
+			journal[journalSize] = (index << 1) | (horizontally ? 0 : 1);
+			journal[journalSize + 1] = masks[index];
+			journal[journalSize + 2] = scores[index];
+			journalSize += 3;
+		}
+
+		if(!hasBefore && !hasAfter) {
+			masks[index] = ALL_LETTERS;
+			scores[index] = NO_CROSS_WORD;
+			return;
+		}
+
+		int score = 0;
+		cursor.reset();
+		boolean exists = true;
+		for(int j=startRow, i=startColumn; j != row || i != column; j += rowStep, i += columnStep) {
+			score += board.getPoints(j, i);
+			exists = exists && cursor.advance(board.getLetter(j, i));
+		}
+		for(int j=row + rowStep, i=column + columnStep; j<size && i<size && !board.isEmpty(j, i); j += rowStep, i += columnStep) {
+			score += board.getPoints(j, i);
+		}
+		scores[index] = score;
+
+		int mask = 0;
+		int candidates = exists ? cursor.getChildrenMask() : 0;
+		while(candidates != 0) {
+			int letter = Integer.numberOfTrailingZeros(candidates);
+			candidates &= candidates - 1;
+
+			cursor.advance((char)('A' + letter));
+			int depth = 1;
+			boolean valid = true;
+			for(int j=row + rowStep, i=column + columnStep; j<size && i<size && !board.isEmpty(j, i); j += rowStep, i += columnStep) {
+				if(!cursor.advance(board.getLetter(j, i))) {
+					valid = false;
+					break;
+				}
+				depth++;
+			}
+			if(valid && cursor.isTerminal()) {
+				mask |= 1 << letter;
+			}
+			for(; depth>0; depth--) {
+				cursor.back();
+			}
+		}
+		masks[index] = mask;
+	}
+
+	/**
+	 * Check that letter can be placed on empty square.
+	 * @param row square row
+	 * @param column square column
+	 * @param horizontally true for move in row, false for move in column
+	 * @param letter capital letter
+	 * @return true if perpendicular word is valid or doesn't exist
+	 */
+	public boolean isAllowed(int row, int column, boolean horizontally, char letter) {
+		int index = letter - 'A';
+		return index >= 0 && index < PackedWordsGraph.LETTERS_COUNT
+				&& (getMask(row, column, horizontally) & (1 << index)) != 0;
+	}
+
+	/**
+	 * Get mask of letters allowed on empty square.
+	 * @param row square row
+	 * @param column square column
+	 * @param horizontally true for move in row, false for move in column
+	 * @return letters mask
+	 */
+	public int getMask(int row, int column, boolean horizontally) {
+		return horizontally ? rowMasks[row * size + column] : columnMasks[row * size + column];
+	}
+
+	/**
+	 * Get points of perpendicular word tiles, without letter placed on square.
+	 * @param row square row
+	 * @param column square column
+	 * @param horizontally true for move in row, false for move in column
+	 * @return points or NO_CROSS_WORD
+	 */
+	public int getScore(int row, int column, boolean horizontally) {
+		return horizontally ? rowScores[row * size + column] : columnScores[row * size + column];
+	}
+
+}
@@ -26,6 +26,9 @@ public class DataManager {
 	/** Default game version */
 	public static final GameVersion DEFAULT_GAME_VERSION = GameVersion.SCRABBLE_15x15;
 
+	/** Default dictionary structure */
+	public static final DictionaryType DEFAULT_DICTIONARY_TYPE = DictionaryType.DAWG;
+
 	/** Default dictionary filepath */
 	public static final String DEFAULT_DICTIONARY_FILE = "data_files/words.txt";
 
@@ -47,6 +50,9 @@ public class DataManager {
 	/** Custom tile bag pattern file path */
 	public static final String CUSTOM_TILEBAG_PATTERN_FILE = "data_files/custom_tilebag.txt";
 
+	/** Rack leave values file path, generated when missing */
+	public static final String LEAVES_FILE = "data_files/leaves.bin";
+
 	/** Default config file path */
 	private static final String DEFAULT_CONFIG_FILE_NAME = "data_files/config.xml";
 
@@ -77,6 +83,19 @@ public class DataManager {
 	/** Max bot time in seconds */
 	public static final int MAX_BOT_TIME = 10;
 
+	/** Min number of threads searching bot move */
+	public static final int MIN_BOT_PARALLELISM = 1;
+
+	/** Max number of threads searching bot move */
+	public static final int MAX_BOT_PARALLELISM = 16;
+
+	/** Default number of threads searching bot move, all processors */
+	public static final int DEFAULT_BOT_PARALLELISM =
+			Math.max(MIN_BOT_PARALLELISM, Math.min(MAX_BOT_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+
+	/** Default way of choosing bot move */
+	public static final BotStrategy DEFAULT_BOT_STRATEGY = BotStrategy.POINTS;
+
 	/** Max passes count */
 	public static final int MAX_PASSES = 2;
 
@@ -89,9 +108,18 @@ public class DataManager {
 	/** Bot time field in xml */
 	private static final String BOT_TIME = "bot_time";
 
+	/** Bot parallelism field in xml */
+	private static final String BOT_PARALLELISM = "bot_parallelism";
+
+	/** Bot strategy field in xml */
+	private static final String BOT_STRATEGY = "bot_strategy";
+
 	/** Dictionary field in xml */
 	private static final String DICTIONARY = "dictionary";
 
+	/** Dictionary structure field in xml */
+	private static final String DICTIONARY_TYPE = "dictionary_type";
+
 
 	// **************************************************
 	// Fields
@@ -109,9 +137,18 @@ public class DataManager {
 	/** Dictionary file path */
 	private static String dictionaryFilePath = DEFAULT_DICTIONARY_FILE;
 
+	/** Dictionary structure */
+	private static DictionaryType dictionaryType = DEFAULT_DICTIONARY_TYPE;
+
 	/** Default bot time in seconds */
 	private static int botTime = DEFAULT_BOT_TIME_SECONDS;
 
+	/** Number of threads searching bot move */
+	private static int botParallelism = DEFAULT_BOT_PARALLELISM;
+
+	/** Way of choosing bot move */
+	private static BotStrategy botStrategy = DEFAULT_BOT_STRATEGY;
+
 
 	// **************************************************
 	// Methods
@@ -178,6 +215,40 @@ public class DataManager {
 		}
 	}
 
+	/**
+	 * Get number of threads searching bot move.
+	 * @return bot parallelism
+	 */
+	public static int getBotParallelism() {
+		return botParallelism;
+	}
+
+	/**
+	 * Set number of threads searching bot move.
+	 * @param botParallelism number of threads
+	 */
+	public static void setBotParallelism(int botParallelism) {
+		if (botParallelism >= MIN_BOT_PARALLELISM && botParallelism <= MAX_BOT_PARALLELISM) {
+			DataManager.botParallelism = botParallelism;
+		}
+	}
+
+	/**
+	 * Get way of choosing bot move.
+	 * @return bot strategy
+	 */
+	public static BotStrategy getBotStrategy() {
+		return botStrategy;
+	}
+
+	/**
+	 * Set way of choosing bot move.
+	 * @param botStrategy bot strategy
+	 */
+	public static void setBotStrategy(BotStrategy botStrategy) {
+		DataManager.botStrategy = botStrategy;
+	}
+
 	/**
 	 * Get dictionary file path.
 	 * @return dictionary file path
@@ -194,6 +265,31 @@ public class DataManager {
 		DataManager.dictionaryFilePath = dictionaryFilePath;
 	}
 
+	/**
+	 * Get dictionary structure.
+	 * @return dictionary structure
+	 */
+	public static DictionaryType getDictionaryType() {
+		return dictionaryType;
+	}
+
+	/**
+	 * Set dictionary structure.
+	 * @param dictionaryType dictionary structure
+	 */
+	public static void setDictionaryType(DictionaryType dictionaryType) {
+		DataManager.dictionaryType = dictionaryType;
+	}
+
+	/**
+	 * Get shared dictionary of current structure loaded from current dictionary file.
+	 * @return immutable dictionary
+	 * @throws IOException thrown when loading fails
+	 */
+	public static WordsDictionary getDictionary() throws IOException {
+		return DictionaryRegistry.getDictionary(dictionaryType, dictionaryFilePath);
+	}
+
 	/**
 	 * Get board size.
 	 * @return board size
@@ -256,9 +352,27 @@ public class DataManager {
 					continue;
 				}
 
+				if (event.asStartElement().getName().getLocalPart().equals(BOT_PARALLELISM)) {
+					event = eventReader.nextEvent();
+					setBotParallelism(Integer.parseInt(event.asCharacters().getData()));
+					continue;
+				}
+
+				if (event.asStartElement().getName().getLocalPart().equals(BOT_STRATEGY)) {
+					event = eventReader.nextEvent();
+					setBotStrategy(BotStrategy.getEnum(event.asCharacters().getData()));
+					continue;
+				}
+
 				if (event.asStartElement().getName().getLocalPart().equals(DICTIONARY)) {
 					event = eventReader.nextEvent();
 					setDictionaryFilePath(event.asCharacters().getData());
+					continue;
+				}
+
+				if (event.asStartElement().getName().getLocalPart().equals(DICTIONARY_TYPE)) {
+					event = eventReader.nextEvent();
+					setDictionaryType(DictionaryType.getEnum(event.asCharacters().getData()));
 				}
 
 			}
@@ -309,7 +423,10 @@ public class DataManager {
 
 		createNode(eventWriter, GAME_VERSION, gameVersion.toString());
 		createNode(eventWriter, DICTIONARY, dictionaryFilePath);
+		createNode(eventWriter, DICTIONARY_TYPE, dictionaryType.toString());
 		createNode(eventWriter, BOT_TIME, Integer.toString(botTime));
+		createNode(eventWriter, BOT_PARALLELISM, Integer.toString(botParallelism));
+		createNode(eventWriter, BOT_STRATEGY, botStrategy.toString());
 
 		eventWriter.add(eventFactory.createEndElement("", "", CONFIG));
 		eventWriter.add(end);
@@ -349,7 +466,7 @@ public class DataManager {
 	/**
 	 * Get board scheme from file
 	 * @return board scheme
-	 * @throws IOException thrown when file reading fails
+	 * @throws IOException thrown when file reading fails or board is larger than Board.MAX_SIZE
 	 */
 	public static BoardBonus[][] getBoardScheme() throws IOException {
 		String boardFile = SCRABBLE_15x15_BOARD_FILE;
@@ -372,6 +489,10 @@ public class DataManager {
 		BufferedReader br = Files.newBufferedReader(path);
 		String line;
 		int size = Integer.parseInt(br.readLine());
+		if(size < 1 || size > Board.MAX_SIZE) {
+			br.close();
+			throw new IOException("Board size must be from 1 to " + Board.MAX_SIZE + ": " + size);
+		}
 		if(gameVersion.equals(GameVersion.CUSTOM)) {
 			setBoardSize(size);
 		}
@@ -0,0 +1,127 @@
+package main.game;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Class that represents dictionary as directed acyclic word graph (minimized automaton).<br>
+ * Words sharing endings (eg. "-ING", "-NESS") share nodes, so graph is several times
+ * smaller than tree. Graph is built incrementally from sorted words and then packed
+ * into flat arrays.
+ */
+public class Dawg extends PackedWordsGraph {
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Constructor that create new graph with just root.
+	 */
+	public Dawg() {
+		masks = IntBuffer.allocate(1);
+		children = IntBuffer.allocate(1);
+		nodesCount = 1;
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Load dictionary from file.<br>
+	 * Graph is built again from loaded words and words already present in graph.
+	 * @param filePath file path
+	 * @throws IOException thrown when loading fails
+	 */
+	@Override
+	public void loadWords(String filePath) throws IOException {
+
+		if(filePath == null) {
+			filePath = DataManager.DEFAULT_DICTIONARY_FILE;
+		}
+
+		Path path = Paths.get(filePath);
+		BufferedReader br = Files.newBufferedReader(path);
+		List<String> words = getWords();
+		String line;
+
+		while ((line = br.readLine()) != null) {
+			line = line.toUpperCase();
+			if(isProperWord(line)) {
+				words.add(line);
+			}
+		}
+		br.close();
+
+		build(words);
+	}
+
+	/**
+	 * Add word to graph.<br>
+	 * Minimized graph can't be changed in place, so whole graph is built again.
+	 * Use it only for single words, load dictionaries with 'loadWords()'.
+	 * @param word word to add
+	 * @return true if success
+	 */
+	@Override
+	public boolean addWord(String word) {
+		if(!isProperWord(word) || searchWord(word)) {
+			return false;
+		}
+		List<String> words = getWords();
+		words.add(word);
+		build(words);
+		return true;
+	}
+
+	/**
+	 * Get all words from graph in alphabetical order.
+	 * @return list of words
+	 */
+	public List<String> getWords() {
+		List<String> words = new ArrayList<>(wordsCount + 1);
+		collectWords(ROOT, new StringBuilder(), words);
+		return words;
+	}
+
+	/**
+	 * Helper function for 'getWords()'. Collect words from node's subgraph.
+	 * @param node node index
+	 * @param prefix letters on path to node
+	 * @param words list of collected words
+	 */
+	private void collectWords(int node, StringBuilder prefix, List<String> words) {
+		if((masks.get(node) & LAST_LETTER_FLAG) != 0) {
+			words.add(prefix.toString());
+		}
+		int mask = masks.get(node) & LETTERS_MASK;
+		int child = children.get(node);
+		while(mask != 0) {
+			int letter = Integer.numberOfTrailingZeros(mask);
+			prefix.append((char)('A' + letter));
+			collectWords(child, prefix, words);
+			prefix.setLength(prefix.length() - 1);
+			mask &= mask - 1;
+			child++;
+		}
+	}
+
+	/**
+	 * Build graph from given words.
+	 * @param words proper words, in any order
+	 */
+	private void build(List<String> words) {
+		String[] sorted = words.toArray(new String[0]);
+		Arrays.sort(sorted);
+
+		wordsCount = buildMinimized(sorted);
+	}
+
+}
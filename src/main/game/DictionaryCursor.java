@@ -0,0 +1,45 @@
+package main.game;
+
+/**
+ * Interface of cursor walking dictionary letter by letter from the beginning of word.<br>
+ * Cursor keeps its path, so building word needs no Strings and no walking from root again.
+ * Cursor is not thread safe, every thread should get its own from dictionary.
+ */
+public interface DictionaryCursor {
+
+	/**
+	 * Go back to the beginning of word.
+	 */
+	void reset();
+
+	/**
+	 * Append letter to current path.
+	 * @param letter capital letter
+	 * @return true if some word starts with new path, false if cursor wasn't moved
+	 */
+	boolean advance(char letter);
+
+	/**
+	 * Remove last letter from current path. Does nothing at the beginning of word.
+	 */
+	void back();
+
+	/**
+	 * Check that current path is a word.
+	 * @return true if word is valid
+	 */
+	boolean isTerminal();
+
+	/**
+	 * Get mask of letters that can be appended to current path. Bit 0 is 'A'.
+	 * @return letters mask
+	 */
+	int getChildrenMask();
+
+	/**
+	 * Get number of letters in current path.
+	 * @return path length
+	 */
+	int getDepth();
+
+}
@@ -0,0 +1,247 @@
+package main.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Class responsible for precompiled binary dictionary files.<br>
+ * Packed graph (DAWG or GADDAG) is written next to source words file and then
+ * memory mapped, so loading is near-instant and processes share one copy of the file.
+ * Binary file keeps checksum of source file and is compiled again when source changes.
+ * <br>
+ * File format (little endian): magic, version, dictionary type, source checksum,
+ * words count, nodes count, masks of all nodes, first children of all nodes.
+ */
+public class DictionaryFile {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Magic number at the beginning of file ("SCRD") */
+	private static final int MAGIC = 0x53435244;
+
+	/** Version of file format */
+	public static final int VERSION = 1;
+
+	/** Header size in bytes */
+	private static final int HEADER_SIZE = 28;
+
+	/** Byte order of file */
+	private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+	/** Permissions of new shared file, readable by other users */
+	private static final String FILE_PERMISSIONS = "rw-r--r--";
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Load dictionary of given type from words file.<br>
+	 * DAWG and GADDAG are mapped from compiled file which is compiled first if missing or stale.
+	 * Other types are loaded from words file.
+	 * @param type dictionary structure
+	 * @param filePath words file path, default dictionary file if null
+	 * @return loaded dictionary
+	 * @throws IOException thrown when loading fails
+	 */
+	public static WordsDictionary load(DictionaryType type, String filePath) throws IOException {
+		if(filePath == null) {
+			filePath = DataManager.DEFAULT_DICTIONARY_FILE;
+		}
+
+		WordsDictionary dictionary = type.createDictionary();
+		if(type != DictionaryType.DAWG && type != DictionaryType.GADDAG) {
+			dictionary.loadWords(filePath);
+			return dictionary;
+		}
+
+		Path compiledPath = getCompiledPath(type, filePath);
+		long checksum = checksum(Paths.get(filePath));
+		if(!isUpToDate(compiledPath, type, checksum)) {
+			dictionary.loadWords(filePath);
+			try {
+				compile((PackedWordsGraph) dictionary, type, compiledPath, checksum);
+			} catch (IOException e) {
+				/* Directory not writable. Use dictionary built in memory */
+				return dictionary;
+			}
+		}
+
+		map((PackedWordsGraph) dictionary, compiledPath);
+		return dictionary;
+	}
+
+	/**
+	 * Get path of compiled file for given words file, eg. "words.dawg" for "words.txt".
+	 * @param type dictionary structure
+	 * @param filePath words file path
+	 * @return compiled file path
+	 */
+	public static Path getCompiledPath(DictionaryType type, String filePath) {
+		String name = filePath;
+		int dot = name.lastIndexOf('.');
+		if(dot > Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\'))) {
+			name = name.substring(0, dot);
+		}
+		return Paths.get(name + "." + type.name().toLowerCase());
+	}
+
+	/**
+	 * Compute checksum of file.
+	 * @param path file path
+	 * @return CRC32 of file content
+	 * @throws IOException thrown when reading fails
+	 */
+	public static long checksum(Path path) throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update(Files.readAllBytes(path));
+		return crc.getValue();
+	}
+
+	/**
+	 * Check that compiled file exists, has current version and given type and checksum.
+	 * @param compiledPath compiled file path
+	 * @param type dictionary structure
+	 * @param checksum checksum of words file
+	 * @return true if file can be used
+	 */
+	public static boolean isUpToDate(Path compiledPath, DictionaryType type, long checksum) {
+		if(!Files.isRegularFile(compiledPath)) {
+			return false;
+		}
+		try (FileChannel channel = FileChannel.open(compiledPath, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+			if(channel.read(header) != HEADER_SIZE) {
+				return false;
+			}
+			header.flip();
+			if(header.getInt() != MAGIC || header.getInt() != VERSION || header.getInt() != type.ordinal()
+					|| header.getLong() != checksum) {
+				return false;
+			}
+			header.getInt();
+			int nodesCount = header.getInt();
+			return channel.size() == HEADER_SIZE + 8L * nodesCount;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Write graph to compiled file.
+	 * @param graph packed graph
+	 * @param type dictionary structure
+	 * @param compiledPath compiled file path
+	 * @param checksum checksum of words file
+	 * @throws IOException thrown when writing fails
+	 */
+	public static void compile(PackedWordsGraph graph, DictionaryType type, Path compiledPath, long checksum) throws IOException {
+		int nodesCount = graph.getNodesCount();
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 8 * nodesCount).order(BYTE_ORDER);
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(type.ordinal());
+		buffer.putLong(checksum);
+		buffer.putInt(graph.getWordsCount());
+		buffer.putInt(nodesCount);
+		for(int i=0; i<nodesCount; i++) {
+			buffer.putInt(graph.masks.get(i));
+		}
+		for(int i=0; i<nodesCount; i++) {
+			buffer.putInt(graph.children.get(i));
+		}
+		buffer.flip();
+		writeFile(compiledPath, buffer);
+	}
+
+	/**
+	 * Write buffer to file shared by processes. Buffer is written to unique temporary file
+	 * in the same directory first and then moved, so processes writing at once never write
+	 * the same file and never see incomplete file. Temporary file is created owner-only,
+	 * so it gets permissions of replaced file (or readable by everyone) before move.
+	 * @param path file path
+	 * @param buffer data to write
+	 * @throws IOException thrown when writing fails
+	 */
+	static void writeFile(Path path, ByteBuffer buffer) throws IOException {
+		Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				while(buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+			}
+			if(Files.getFileStore(temp).supportsFileAttributeView(PosixFileAttributeView.class)) {
+				Set<PosixFilePermission> permissions;
+				try {
+					permissions = Files.getPosixFilePermissions(path);
+				} catch (NoSuchFileException e) {
+					permissions = PosixFilePermissions.fromString(FILE_PERMISSIONS);
+				}
+				Files.setPosixFilePermissions(temp, permissions);
+			}
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Map compiled file and use it as nodes of given graph.
+	 * @param graph packed graph to fill
+	 * @param compiledPath compiled file path
+	 * @throws IOException thrown when mapping fails or file size doesn't match its header
+	 */
+	public static void map(PackedWordsGraph graph, Path compiledPath) throws IOException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(compiledPath, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if(size < HEADER_SIZE) {
+				throw new IOException("Dictionary file is truncated: " + compiledPath);
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(BYTE_ORDER);
+		}
+		int wordsCount = buffer.getInt(HEADER_SIZE - 8);
+		int nodesCount = buffer.getInt(HEADER_SIZE - 4);
+		/* nodes section holds mask and child index (4 bytes each) per node */
+		if(nodesCount < 0 || buffer.capacity() != HEADER_SIZE + 8L * nodesCount) {
+			throw new IOException("Dictionary file size doesn't match its header: " + compiledPath);
+		}
+
+		buffer.position(HEADER_SIZE);
+		IntBuffer nodes = buffer.slice().order(BYTE_ORDER).asIntBuffer();
+		nodes.limit(nodesCount);
+		graph.masks = nodes.slice();
+		nodes.limit(2 * nodesCount);
+		nodes.position(nodesCount);
+		graph.children = nodes.slice();
+		graph.nodesCount = nodesCount;
+		graph.wordsCount = wordsCount;
+	}
+
+	/**
+	 * Compile dictionary file without starting the game.<br>
+	 * Arguments: words file path (default dictionary if missing), dictionary type (DAWG if missing).
+	 * @param args optional arguments
+	 * @throws IOException thrown when compiling fails
+	 */
+	public static void main(String[] args) throws IOException {
+		String filePath = (args.length > 0) ? args[0] : DataManager.DEFAULT_DICTIONARY_FILE;
+		DictionaryType type = (args.length > 1) ? DictionaryType.getEnum(args[1]) : DictionaryType.DAWG;
+		WordsDictionary dictionary = load(type, filePath);
+		System.out.println(getCompiledPath(type, filePath) + ": " + dictionary.getWordsCount() + " words");
+	}
+
+}
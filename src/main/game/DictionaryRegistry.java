@@ -0,0 +1,62 @@
+package main.game;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of loaded dictionaries.<br>
+ * Every dictionary file is loaded once for every structure and shared as immutable
+ * dictionary by all games, bots and solvers.
+ */
+public class DictionaryRegistry {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Loaded dictionaries by structure and absolute file path */
+	private static final Map<String, WordsDictionary> dictionaries = new ConcurrentHashMap<>();
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Get shared dictionary of given structure loaded from given file.
+	 * File is loaded only by first caller, others wait for it and get same instance.
+	 * @param type dictionary structure
+	 * @param filePath words file path, default dictionary file if null
+	 * @return immutable dictionary
+	 * @throws IOException thrown when loading fails
+	 */
+	public static WordsDictionary getDictionary(DictionaryType type, String filePath) throws IOException {
+		if(filePath == null) {
+			filePath = DataManager.DEFAULT_DICTIONARY_FILE;
+		}
+		String path = filePath;
+		String key = type.name() + ":" + Paths.get(path).toAbsolutePath().normalize();
+		try {
+			return dictionaries.computeIfAbsent(key, k -> {
+				try {
+					return new ImmutableDictionary(DictionaryFile.load(type, path));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Forget all loaded dictionaries. Games already started keep their instances.
+	 */
+	public static void clear() {
+		dictionaries.clear();
+	}
+
+}
@@ -0,0 +1,84 @@
+package main.game;
+
+/**
+ * Enum class with available dictionary structures.
+ */
+public enum DictionaryType {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	WORDS_TREE("Tree"),
+	PACKED_WORDS_TREE("Packed tree"),
+	DAWG("DAWG"),
+	GADDAG("GADDAG");
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Dictionary type in String */
+	private final String typeString;
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor with String.
+	 * @param typeString String version of enum
+	 */
+	DictionaryType(String typeString) {
+		this.typeString = typeString;
+	}
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Create new empty dictionary of this type.
+	 * @return empty dictionary
+	 */
+	public WordsDictionary createDictionary() {
+		switch(this) {
+			case WORDS_TREE:
+				return new WordsTree();
+			case PACKED_WORDS_TREE:
+				return new PackedWordsTree();
+			case GADDAG:
+				return new Gaddag();
+			default:
+				return new Dawg();
+		}
+	}
+
+	/**
+	 * With given string get proper enum.
+	 * @param typeString String as enum
+	 * @return enum
+	 */
+	public static DictionaryType getEnum(String typeString) {
+		switch(typeString){
+			case "Tree":
+				return WORDS_TREE;
+			case "Packed tree":
+				return PACKED_WORDS_TREE;
+			case "DAWG":
+				return DAWG;
+			case "GADDAG":
+				return GADDAG;
+		}
+		return DAWG;
+	}
+
+	/**
+	 * Return enum as String.
+	 * @return enum as string
+	 */
+	@Override
+	public String toString() {
+		return typeString;
+	}
+}
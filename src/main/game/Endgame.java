@@ -0,0 +1,432 @@
+package main.game;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Class that solves endgame, when no tiles can be drawn and both racks are known.<br>
+ * Game is searched by negamax with alpha-beta pruning. Value of position is difference
+ * between points of player to move and his opponent till the end of game, game ends
+ * when player to move has empty rack or after too many passes in a row (rack tiles are
+ * subtracted then). Search is iteratively deepened until game tree is searched to its
+ * end or search should stop, so the best move of last finished depth is always ready.
+ * <br>
+ * Moves are tried from the best move of previous depth (kept in transposition table)
+ * and then by points. Transposition table has fixed size and is indexed by Zobrist hash of
+ * position, positions searched to the end are kept with max depth.
+ */
+public class Endgame {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Max search depth in plies */
+	public static final int MAX_DEPTH = 32;
+
+	/** Number of transposition table entries, power of 2 */
+	private static final int TABLE_SIZE = 1 << 18;
+
+	/** Value greater than any position value */
+	private static final int INFINITY = 1_000_000;
+
+	/** Entry value is exact */
+	private static final byte EXACT = 0;
+
+	/** Entry value is lower bound */
+	private static final byte LOWER = 1;
+
+	/** Entry value is upper bound */
+	private static final byte UPPER = 2;
+
+	/** Hash of pass in transposition table, 0 is no move */
+	private static final long PASS_HASH = 1;
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Game with current board */
+	private final Game game;
+
+	/** Board copy searched by solver */
+	private final LookaheadGame searchGame;
+
+	/** Player to move at root (0) and his opponent (1) with their racks */
+	private final Player[] players = {new SearchPlayer(), new SearchPlayer()};
+
+	/** Number of passes in a row ending game */
+	private int maxPasses;
+
+	/** Transposition table keys, 0 marks empty entry */
+	private final long[] keys = new long[TABLE_SIZE];
+
+	/** Hashes of best moves of entries */
+	private final long[] bestMoves = new long[TABLE_SIZE];
+
+	/** Values of entries */
+	private final int[] values = new int[TABLE_SIZE];
+
+	/** Depths of entries */
+	private final byte[] depths = new byte[TABLE_SIZE];
+
+	/** Bound types of entries */
+	private final byte[] flags = new byte[TABLE_SIZE];
+
+	/** Search with deadline */
+	private BotSearch search;
+
+	/** True if search stopped before current depth was finished */
+	private boolean stopped;
+
+	/** Number of positions evaluated without searching to the end of game */
+	private long cutoffsCount;
+
+	/** Number of searched positions */
+	private long nodesCount;
+
+	/** Last finished depth */
+	private int depth;
+
+	/** Value of best move at last finished depth */
+	private int value;
+
+	/** Best moves of both players at last finished depth, passes are empty moves */
+	private List<Move> principalVariation = new ArrayList<>();
+
+
+	/**
+	 * Player of searched game.
+	 */
+	private static class SearchPlayer extends Player {
+
+		/**
+		 * Constructor.
+		 */
+		private SearchPlayer() {
+			super("Endgame", null);
+		}
+	}
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor.
+	 * @param game game with current board
+	 */
+	public Endgame(Game game) {
+		this.game = game;
+		try {
+			searchGame = new LookaheadGame();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Find the best move of player to move.<br>
+	 * Depth is increased until whole game tree is searched or search should stop.
+	 * @param rack tiles on rack of player to move
+	 * @param opponentRack tiles on opponent rack
+	 * @param passCount number of passes in a row before this move
+	 * @param search bot search with deadline
+	 * @return best move or null if pass is the best
+	 */
+	public Move solve(List<Tile> rack, List<Tile> opponentRack, int passCount, BotSearch search) {
+		this.search = search;
+		searchGame.copyBoardFrom(game);
+		players[0].setRack(new ArrayList<>(rack));
+		players[1].setRack(new ArrayList<>(opponentRack));
+		maxPasses = 2 * DataManager.MAX_PASSES;
+		Arrays.fill(keys, 0);
+		stopped = false;
+		nodesCount = 0;
+		depth = 0;
+		value = 0;
+		principalVariation = new ArrayList<>();
+		search.startEndgame();
+
+		List<Move> moves = getOrderedMoves(players[0].getRack(), 0);
+		Move bestMove = moves.isEmpty() ? null : moves.get(0);
+		for(int currentDepth=1; currentDepth<=MAX_DEPTH; currentDepth++) {
+			long cutoffs = cutoffsCount;
+			int currentValue = negamax(0, currentDepth, -INFINITY, INFINITY, passCount);
+			if(stopped) {
+				break;
+			}
+			depth = currentDepth;
+			value = currentValue;
+			List<Move> variation = getPrincipalVariation(0, passCount);
+			if(!variation.isEmpty()) {
+				principalVariation = variation;
+				Move first = variation.get(0);
+				bestMove = first.getTiles().isEmpty() ? null : first;
+			}
+			search.setEndgameDepth(depth);
+			if(cutoffsCount == cutoffs) {
+				/* No position was evaluated by depth limit, so the result is exact */
+				break;
+			}
+		}
+		search.addMovesEvaluated(nodesCount);
+		this.search = null;
+		return bestMove;
+	}
+
+	/**
+	 * Search position to given depth.
+	 * @param side index of player to move
+	 * @param depth remaining depth
+	 * @param alpha lower bound of interesting values
+	 * @param beta upper bound of interesting values
+	 * @param passes number of passes in a row
+	 * @return value for player to move
+	 */
+	private int negamax(int side, int depth, int alpha, int beta, int passes) {
+		/* Every position generates moves, so time is checked in every position */
+		nodesCount++;
+		if(stopped || search.shouldStop()) {
+			stopped = true;
+			return 0;
+		}
+		List<Tile> rack = players[side].getRack();
+		List<Tile> opponentRack = players[1 - side].getRack();
+		if(rack.isEmpty()) {
+			/* Opponent went out and player had his last move */
+			return 0;
+		}
+		if(passes == maxPasses) {
+			return getPoints(opponentRack) - getPoints(rack);
+		}
+
+		long key = getPositionKey(side, passes);
+		int slot = (int) (key ^ (key >>> 32)) & (TABLE_SIZE - 1);
+		long tableMove = 0;
+		if(keys[slot] == key) {
+			tableMove = bestMoves[slot];
+			if(depths[slot] >= depth) {
+				int tableValue = values[slot];
+				if(flags[slot] == EXACT
+						|| (flags[slot] == LOWER && tableValue >= beta)
+						|| (flags[slot] == UPPER && tableValue <= alpha)) {
+					if(depths[slot] < MAX_DEPTH) {
+						cutoffsCount++;
+					}
+					return tableValue;
+				}
+			}
+		}
+		if(depth == 0) {
+			cutoffsCount++;
+			Move bestMove = searchGame.getBestMove(rack);
+			return bestMove == null ? 0 : bestMove.getPoints();
+		}
+
+		long cutoffs = cutoffsCount;
+		int originalAlpha = alpha;
+		int best = -INFINITY;
+		long bestHash = 0;
+		for(Move move : getOrderedMoves(rack, tableMove)) {
+			int points = move.getPoints();
+			play(side, move);
+			int moveValue = points - negamax(1 - side, depth - 1, points - beta, points - alpha, 0);
+			undo();
+			if(stopped) {
+				return 0;
+			}
+			if(moveValue > best) {
+				best = moveValue;
+				bestHash = getMoveHash(move);
+				alpha = Math.max(alpha, moveValue);
+				if(alpha >= beta) {
+					break;
+				}
+			}
+		}
+		if(alpha < beta) {
+			int passValue = -negamax(1 - side, depth - 1, -beta, -alpha, passes + 1);
+			if(stopped) {
+				return 0;
+			}
+			if(passValue > best) {
+				best = passValue;
+				bestHash = PASS_HASH;
+			}
+		}
+
+		keys[slot] = key;
+		bestMoves[slot] = bestHash;
+		values[slot] = best;
+		/* Position searched to the end of game is valid for any depth */
+		depths[slot] = (byte) (cutoffsCount == cutoffs ? MAX_DEPTH : depth);
+		flags[slot] = best <= originalAlpha ? UPPER : (best >= beta ? LOWER : EXACT);
+		return best;
+	}
+
+	/**
+	 * Generate moves of player, move from transposition table first and then by points.
+	 * Moves with same placement are returned once.
+	 * @param rack tiles on rack
+	 * @param tableMove hash of best move from transposition table or 0
+	 * @return ordered moves
+	 */
+	private List<Move> getOrderedMoves(List<Tile> rack, long tableMove) {
+		List<Move> generated = searchGame.generateMoves(rack);
+		generated.sort((a, b) -> Integer.compare(b.getPoints(), a.getPoints()));
+		List<Move> moves = new ArrayList<>(generated.size());
+		Set<Long> hashes = new HashSet<>();
+		for(Move move : generated) {
+			long hash = getMoveHash(move);
+			if(!hashes.add(hash)) {
+				continue;
+			}
+			if(hash == tableMove) {
+				moves.add(0, move);
+			} else {
+				moves.add(move);
+			}
+		}
+		return moves;
+	}
+
+	/**
+	 * Follow best moves from transposition table.
+	 * @param side index of player to move
+	 * @param passes number of passes in a row
+	 * @return best moves, passes are empty moves, empty if position isn't in table
+	 */
+	private List<Move> getPrincipalVariation(int side, int passes) {
+		List<Move> variation = new ArrayList<>();
+		int playedCount = 0;
+		int currentSide = side;
+		while(variation.size() < depth && !players[currentSide].getRack().isEmpty() && passes < maxPasses) {
+			long key = getPositionKey(currentSide, passes);
+			int slot = (int) (key ^ (key >>> 32)) & (TABLE_SIZE - 1);
+			if(keys[slot] != key || bestMoves[slot] == 0) {
+				break;
+			}
+			if(bestMoves[slot] == PASS_HASH) {
+				variation.add(new Move());
+				passes++;
+			} else {
+				Move next = null;
+				for(Move move : searchGame.generateMoves(players[currentSide].getRack())) {
+					if(getMoveHash(move) == bestMoves[slot]) {
+						next = move;
+						break;
+					}
+				}
+				if(next == null) {
+					break;
+				}
+				variation.add(next);
+				play(currentSide, next);
+				playedCount++;
+				passes = 0;
+			}
+			currentSide = 1 - currentSide;
+		}
+		for(int i=0; i<playedCount; i++) {
+			undo();
+		}
+		return variation;
+	}
+
+	/**
+	 * Apply move on board and remove its tiles from rack.
+	 * @param side index of player
+	 * @param move move
+	 */
+	private void play(int side, Move move) {
+		searchGame.applyMove(move, players[side]);
+	}
+
+	/**
+	 * Take back last applied move from board and return its tiles to rack.
+	 */
+	private void undo() {
+		searchGame.undoMove();
+	}
+
+	/**
+	 * Get key of position: Zobrist hash of board, both racks and player to move, mixed with passes.
+	 * @param side index of player to move
+	 * @param passes number of passes in a row
+	 * @return position key, never 0
+	 */
+	private long getPositionKey(int side, int passes) {
+		long key = searchGame.getBoardHash()
+				^ Zobrist.getRackKey(0, players[0].getRack())
+				^ Zobrist.getRackKey(1, players[1].getRack())
+				^ Zobrist.getSideKey(side)
+				^ (passes * 0x9E3779B97F4A7C15L);
+		return key == 0 ? 1 : key;
+	}
+
+	/**
+	 * Get Zobrist key of placement.
+	 * @param move move
+	 * @return placement hash, never 0 or PASS_HASH
+	 */
+	private long getMoveHash(Move move) {
+		long hash = searchGame.getZobrist().getMoveKey(move.getTiles());
+		return (hash == 0 || hash == PASS_HASH) ? 2 : hash;
+	}
+
+	/**
+	 * Get sum of points of tiles.
+	 * @param tiles tiles
+	 * @return points
+	 */
+	private static int getPoints(List<Tile> tiles) {
+		int points = 0;
+		for(Tile tile : tiles) {
+			points += tile.getPoints();
+		}
+		return points;
+	}
+
+	/**
+	 * Get last finished depth.
+	 * @return depth in plies
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Get value of best move at last finished depth: difference between points of player
+	 * to move and his opponent till the end of game.
+	 * @return value
+	 */
+	public int getValue() {
+		return value;
+	}
+
+	/**
+	 * Get best moves of both players at last finished depth, starting with player to move.
+	 * @return best moves, passes are moves without tiles
+	 */
+	public List<Move> getPrincipalVariation() {
+		return principalVariation;
+	}
+
+	/**
+	 * Get number of searched positions.
+	 * @return positions count
+	 */
+	public long getNodesCount() {
+		return nodesCount;
+	}
+
+}
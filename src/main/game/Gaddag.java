@@ -0,0 +1,262 @@
+package main.game;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Class that represents dictionary as GADDAG.<br>
+ * Every word is stored once for every its letter: letters before that letter are stored
+ * in reversed order, then separator and letters after it. Eg. "CARE" is stored as
+ * "C^ARE", "AC^RE", "RAC^E" and "ERAC". Move generator can start at any letter
+ * on board, go left with reversed letters, then follow separator and go right.<br>
+ * Graph is minimized and packed into flat arrays like DAWG.
+ */
+public class Gaddag extends PackedWordsGraph {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Separator symbol index, placed after 'Z' */
+	public static final int SEPARATOR = LETTERS_COUNT;
+
+	/** Separator symbol as char used in sequences */
+	private static final char SEPARATOR_CHAR = (char)('A' + SEPARATOR);
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Constructor that create new graph with just root.
+	 */
+	public Gaddag() {
+		masks = IntBuffer.allocate(1);
+		children = IntBuffer.allocate(1);
+		nodesCount = 1;
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Load dictionary from file.<br>
+	 * Graph is built again from loaded words and words already present in graph.
+	 * @param filePath file path
+	 * @throws IOException thrown when loading fails
+	 */
+	@Override
+	public void loadWords(String filePath) throws IOException {
+
+		if(filePath == null) {
+			filePath = DataManager.DEFAULT_DICTIONARY_FILE;
+		}
+
+		Path path = Paths.get(filePath);
+		BufferedReader br = Files.newBufferedReader(path);
+		List<String> words = getWords();
+		String line;
+
+		while ((line = br.readLine()) != null) {
+			line = line.toUpperCase();
+			if(isProperWord(line)) {
+				words.add(line);
+			}
+		}
+		br.close();
+
+		build(words);
+	}
+
+	/**
+	 * Add word to graph.<br>
+	 * Minimized graph can't be changed in place, so whole graph is built again.
+	 * Use it only for single words, load dictionaries with 'loadWords()'.
+	 * @param word word to add
+	 * @return true if success
+	 */
+	@Override
+	public boolean addWord(String word) {
+		if(!isProperWord(word) || searchWord(word)) {
+			return false;
+		}
+		List<String> words = getWords();
+		words.add(word);
+		build(words);
+		return true;
+	}
+
+	/**
+	 * Check that given word exists in graph.<br>
+	 * Word is stored in reversed order without separator.
+	 * @param word to search
+	 * @return true if word is valid
+	 */
+	@Override
+	public boolean searchWord(String word) {
+		if(word.isEmpty()) {
+			return false;
+		}
+		int node = findReversedNode(word);
+		return node != -1 && isLastLetter(node);
+	}
+
+	/**
+	 * Check that some word starts with given letters.<br>
+	 * Prefix is stored in reversed order, followed by separator or end of word.
+	 * @param word path
+	 * @return true if path exists
+	 */
+	@Override
+	public boolean existsPath(String word) {
+		if(word.isEmpty()) {
+			return true;
+		}
+		int node = findReversedNode(word);
+		return node != -1 && (isLastLetter(node) || getSeparatorChild(node) != -1);
+	}
+
+	/**
+	 * Get node after separator. Used to turn from going left to going right.
+	 * @param node node index
+	 * @return child index or -1 if not exists
+	 */
+	public int getSeparatorChild(int node) {
+		return getChild(node, SEPARATOR);
+	}
+
+	/**
+	 * Get next node of cursor path.<br>
+	 * First letter is taken from root. Next letters are taken after separator,
+	 * so cursor walks words in normal order.
+	 * @param node current node
+	 * @param depth length of current path
+	 * @param letter letter index (0 for 'A')
+	 * @return next node or -1 if not exists
+	 */
+	@Override
+	protected int getNextNode(int node, int depth, int letter) {
+		if(depth == 0) {
+			int next = getChild(ROOT, letter);
+			return (next != -1 && (isLastLetter(next) || getSeparatorChild(next) != -1)) ? next : -1;
+		}
+		if(depth == 1) {
+			node = getSeparatorChild(node);
+			if(node == -1) {
+				return -1;
+			}
+		}
+		return getChild(node, letter);
+	}
+
+	/**
+	 * Get mask of letters that can follow cursor path.
+	 * @param node current node
+	 * @param depth length of current path
+	 * @return letters mask
+	 */
+	@Override
+	protected int getLettersMask(int node, int depth) {
+		if(depth == 0) {
+			int mask = 0;
+			for(int letter=0; letter<LETTERS_COUNT; letter++) {
+				if(getNextNode(ROOT, 0, letter) != -1) {
+					mask |= 1 << letter;
+				}
+			}
+			return mask;
+		}
+		if(depth == 1) {
+			node = getSeparatorChild(node);
+			if(node == -1) {
+				return 0;
+			}
+		}
+		return masks.get(node) & LETTERS_MASK;
+	}
+
+	/**
+	 * Walk from root through letters of given word in reversed order.
+	 * @param word path
+	 * @return index of last node or -1 if path not exists
+	 */
+	private int findReversedNode(String word) {
+		int node = ROOT;
+		for(int i=word.length()-1; i>=0 && node != -1; i--) {
+			int letter = word.charAt(i) - 'A';
+			if(letter < 0 || letter >= LETTERS_COUNT) {
+				return -1;
+			}
+			node = getChild(node, letter);
+		}
+		return node;
+	}
+
+	/**
+	 * Get all words from graph in alphabetical order.
+	 * @return list of words
+	 */
+	public List<String> getWords() {
+		List<String> words = new ArrayList<>(wordsCount + 1);
+		collectWords(ROOT, new StringBuilder(), words);
+		Collections.sort(words);
+		return words;
+	}
+
+	/**
+	 * Helper function for 'getWords()'. Collect reversed words from node's subgraph,
+	 * never following separator.
+	 * @param node node index
+	 * @param reversed letters on path to node
+	 * @param words list of collected words
+	 */
+	private void collectWords(int node, StringBuilder reversed, List<String> words) {
+		if(node != ROOT && isLastLetter(node)) {
+			words.add(new StringBuilder(reversed).reverse().toString());
+		}
+		int mask = masks.get(node) & LETTERS_MASK;
+		int child = children.get(node);
+		while(mask != 0) {
+			int letter = Integer.numberOfTrailingZeros(mask);
+			reversed.append((char)('A' + letter));
+			collectWords(child, reversed, words);
+			reversed.setLength(reversed.length() - 1);
+			mask &= mask - 1;
+			child++;
+		}
+	}
+
+	/**
+	 * Build graph from given words.
+	 * @param words proper words, in any order
+	 */
+	private void build(List<String> words) {
+		Set<String> distinct = new HashSet<>(words);
+		List<String> sequences = new ArrayList<>();
+		for(String word : distinct) {
+			StringBuilder reversed = new StringBuilder();
+			for(int i=0; i<word.length(); i++) {
+				reversed.insert(0, word.charAt(i));
+				if(i == word.length() - 1) {
+					sequences.add(reversed.toString());
+				} else {
+					sequences.add(reversed.toString() + SEPARATOR_CHAR + word.substring(i + 1));
+				}
+			}
+		}
+
+		String[] sorted = sequences.toArray(new String[0]);
+		Arrays.sort(sorted);
+		buildMinimized(sorted);
+		wordsCount = distinct.size();
+	}
+
+}
@@ -45,7 +45,7 @@ public abstract class Game {
 	protected GameVersion gameVersion;
 
 	/** Current board situation */
-	protected Tile[][] board;
+	protected Board board;
 
 	/** Board size */
 	protected int boardSize;
@@ -53,12 +53,61 @@ public abstract class Game {
 	/** Board scheme (bonuses) */
 	protected BoardBonus[][] boardBonuses;
 
-	/** Tree for searching words */
-	protected WordsTree tree;
+	/** Dictionary for searching words */
+	protected WordsDictionary tree;
+
+	/** Cursor used to check words letter by letter */
+	protected DictionaryCursor cursor;
+
+	/** Letters allowed on every square by perpendicular words */
+	protected CrossChecks crossChecks;
 
 	/** True if first move was done earlier */
 	protected boolean firstMoveDone = false;
 
+	/** Zobrist keys of board squares */
+	protected Zobrist zobrist;
+
+	/** Zobrist hash of tiles on board, updated by every placed and taken back tile */
+	protected long boardHash = 0;
+
+	/** Records of applied moves, reused after undo */
+	private final List<Undo> undoStack = new ArrayList<>();
+
+	/** Number of applied moves that can be taken back */
+	private int undoCount = 0;
+
+
+	/**
+	 * State changed by applied move.
+	 */
+	private static class Undo {
+
+		/** Applied move */
+		private Move move;
+
+		/** Player who got points and lost rack tiles, or null */
+		private Player player;
+
+		/** Points added to player */
+		private int points;
+
+		/** First move flag before move */
+		private boolean firstMoveDone;
+
+		/** Cross-checks mark before move */
+		private int crossChecksMark;
+
+		/** Removed rack tiles in order of removal */
+		private final Tile[] rackTiles = new Tile[DataManager.RACK_SIZE];
+
+		/** Rack positions of removed tiles at the moment of removal */
+		private final int[] rackIndices = new int[DataManager.RACK_SIZE];
+
+		/** Number of removed rack tiles */
+		private int rackCount;
+	}
+
 
 	// **************************************************
 	// Constructors
@@ -66,18 +115,20 @@ public abstract class Game {
 
 	/**
 	 * Constructor that initiating important objects like tree, board scheme.
+	 * Dictionary is shared with other games.
 	 * @throws IOException when loading board scheme fails
 	 */
 	public Game() throws IOException {
 
-		tree = new WordsTree();
-		tree.loadWords(DataManager.getDictionaryFilePath());
+		tree = DataManager.getDictionary();
+		cursor = tree.getCursor();
 
 		boardSize = DataManager.getBoardSize();
 		gameVersion = DataManager.getGameVersion();
-		board = new Tile[boardSize][boardSize];
-
 		boardBonuses = DataManager.getBoardScheme();
+		board = new Board(boardSize, boardBonuses);
+		crossChecks = new CrossChecks(tree, boardSize);
+		zobrist = Zobrist.getInstance(boardSize);
 
 	}
 
@@ -101,7 +152,7 @@ public abstract class Game {
 		if (!firstMoveDone) {
 			boolean success = false;
 			for (Tile tile : playerMove.getTiles()) {
-				if (boardBonuses[tile.getRow()][tile.getColumn()] == BoardBonus.BEGIN) {
+				if (board.isBegin(tile.getRow(), tile.getColumn())) {
 					success = true;
 				}
 			}
@@ -185,7 +236,7 @@ public abstract class Game {
 			}
 
 			/* Go left or up to find start index of word */
-			while (i>=0 && j>=0 && (board[j][i] != null)) {
+			while (i>=0 && j>=0 && !board.isEmpty(j, i)) {
 				if(inRow) {
 					i--;
 				} else {
@@ -203,7 +254,7 @@ public abstract class Game {
 			}
 
 			/* Go right or down to find end index of word*/
-			while (i<boardSize && j<boardSize && (board[j][i] != null)) {
+			while (i<boardSize && j<boardSize && !board.isEmpty(j, i)) {
 				if (inRow) {
 					i++;
 				} else {
@@ -232,10 +283,11 @@ public abstract class Game {
 			/* We iterate through tiles from move and board and building word */
 			/* If there's a gap its NOT_CONNECTED_ERROR */
 			for (int k = startIndex; k <= endIndex; k++) {
-				if(board[j][i] != null) {
+				currentOptionalWordScore = 0;
+				if(!board.isEmpty(j, i)) {
 					/* Add tile from board to potential word */
-					word.append(board[j][i].getLetter());
-					tiles.add(board[j][i]);
+					word.append(board.getLetter(j, i));
+					tiles.add(board.getTile(j, i));
 				} else if(playerMove.getTiles().get(l).getRow() != j || playerMove.getTiles().get(l).getColumn() !=i) {
 					/* We have a gap, its error */
 					return NOT_CONNECTED_ERROR;
@@ -243,11 +295,7 @@ public abstract class Game {
 					/* Add tile from move */
 					word.append(playerMove.getTiles().get(l).getLetter());
 					tiles.add(playerMove.getTiles().get(l));
-					if (inRow) {
-						currentOptionalWordScore = checkPossibleWord(playerMove.getTiles().get(l),  false);
-					} else {
-						currentOptionalWordScore = checkPossibleWord(playerMove.getTiles().get(l), true);
-					}
+					currentOptionalWordScore = getCrossWordScore(playerMove.getTiles().get(l), inRow);
 					l++;
 				}
 				if (currentOptionalWordScore == INVALID_WORD_ERROR) {
@@ -266,19 +314,7 @@ public abstract class Game {
 			if(tree.searchWord(word.toString())) {
 				int bingo = 0;
 				if(playerMove.getTiles().size() == DataManager.RACK_SIZE){
-					switch (gameVersion) {
-						case SCRABBLE_15x15:
-							bingo = DataManager.SCRABBLE_BINGO;
-							break;
-						case WORDS_WITH_FRIENDS_15x15:
-							bingo = DataManager.WORDS_WITH_FRIENDS_BINGO;
-							break;
-						case WORDS_WITH_FRIENDS_11x11:
-							bingo = DataManager.WORDS_WITH_FRIENDS_BINGO;
-							break;
-						case CUSTOM:
-							bingo = DataManager.SCRABBLE_BINGO;
-					}
+					bingo = getBingoBonus();
 				}
 				playerMove.setPoints(getScore(tiles) + optionalWordsScore + bingo);
 				return getScore(tiles) + optionalWordsScore + bingo;
@@ -289,16 +325,130 @@ public abstract class Game {
 		}
 	}
 
+	/**
+	 * Check move and return points if valid or error code.<br>
+	 * Same rules as 'checkMove(Move)', but works on primitive buffer and allocates
+	 * no objects, so bot can check thousands of moves. Tiles in buffer are sorted.
+	 * @param move move buffer
+	 * @return points or error code
+	 */
+	public int checkMove(MoveBuffer move) {
+		int count = move.size();
+		if (count == 0) {
+			return EMPTY_WORD_ERROR;
+		}
+
+		/* If first move wasn't done before check some tile is placed on begin point */
+		if (!firstMoveDone) {
+			boolean success = false;
+			for (int k = 0; k < count; k++) {
+				if (board.isBegin(move.getRow(k), move.getColumn(k))) {
+					success = true;
+				}
+			}
+			if(!success) {
+				return BEGIN_ERROR;
+			}
+		}
+
+		/* Check that word is in row or in column*/
+		boolean inRow = true;
+		boolean inColumn = true;
+		boolean connected = false;
+		int row = move.getRow(0);
+		int column = move.getColumn(0);
+
+		for (int k = 0; k < count; k++) {
+			if(move.getRow(k) != row) {
+				inRow = false;
+			}
+			if(move.getColumn(k) != column) {
+				inColumn = false;
+			}
+			if(hasNeighbour(move.getRow(k), move.getColumn(k))){
+				connected = true;
+			}
+		}
+
+		if(!connected && firstMoveDone) {
+			return NOT_CONNECTED_ERROR;
+		}
+
+		if (!inColumn && !inRow) {
+			return ROW_COLUMN_ERROR;
+		} else if (inColumn && inRow) {
+			/* Case that there is only 1 tile in move */
+			if(!firstMoveDone) {
+				return INVALID_WORD_ERROR;
+			}
+			int horizontalWordPoints = getCrossWordScore(row, column, move.getLetter(0), move.getPoints(0), false);
+			int verticalWordPoints = getCrossWordScore(row, column, move.getLetter(0), move.getPoints(0), true);
+			if( horizontalWordPoints == INVALID_WORD_ERROR || verticalWordPoints == INVALID_WORD_ERROR ) {
+				return INVALID_WORD_ERROR;
+			}
+			return horizontalWordPoints + verticalWordPoints;
+		}
+
+		/* Case that there are at least 2 tiles */
+		move.sort(inRow);
+		int rowStep = inRow ? 0 : 1;
+		int columnStep = inRow ? 1 : 0;
+
+		/* Go left or up to find start of word */
+		int j = move.getRow(0);
+		int i = move.getColumn(0);
+		while(board.hasTile(j - rowStep, i - columnStep)) {
+			j -= rowStep;
+			i -= columnStep;
+		}
+
+		/* Walk word till its end. If there's a gap its NOT_CONNECTED_ERROR */
+		cursor.reset();
+		boolean wordExists = true;
+		int score = 0;
+		int multi = 1;
+		int optionalWordsScore = 0;
+		int l = 0; //counter for tiles from move
+		while(j < boardSize && i < boardSize && (!board.isEmpty(j, i) || l < count)) {
+			char letter;
+			if(!board.isEmpty(j, i)) {
+				letter = board.getLetter(j, i);
+				score += board.getPoints(j, i);
+			} else if(move.getRow(l) != j || move.getColumn(l) != i) {
+				return NOT_CONNECTED_ERROR;
+			} else {
+				letter = move.getLetter(l);
+				score += move.getPoints(l) * board.getLetterMultiplier(j, i);
+				multi *= board.getWordMultiplier(j, i);
+				int optionalWordScore = getCrossWordScore(j, i, letter, move.getPoints(l), inRow);
+				if(optionalWordScore == INVALID_WORD_ERROR) {
+					return INVALID_OPTIONAL_WORD_ERROR;
+				}
+				optionalWordsScore += optionalWordScore;
+				l++;
+			}
+			wordExists = wordExists && cursor.advance(letter);
+			j += rowStep;
+			i += columnStep;
+		}
+
+		if(l < count) {
+			return NOT_CONNECTED_ERROR;
+		}
+		if(!wordExists || !cursor.isTerminal()) {
+			return INVALID_WORD_ERROR;
+		}
+		int bingo = (count == DataManager.RACK_SIZE) ? getBingoBonus() : 0;
+		return score * multi + optionalWordsScore + bingo;
+	}
+
 	/**
 	 * Check that given Tile has neighbour on board.
 	 * @param tile Tile
 	 * @return true if has neighbours
 	 */
 	public boolean hasNeighbour(Tile tile) {
-		return hasValueCell(tile.getRow()+1, tile.getColumn())
-				|| hasValueCell(tile.getRow()-1, tile.getColumn())
-				|| hasValueCell(tile.getRow(), tile.getColumn()+1)
-				|| hasValueCell(tile.getRow(), tile.getColumn()-1);
+		return board.hasNeighbour(tile.getRow(), tile.getColumn());
 	}
 
 	/**
@@ -308,10 +458,18 @@ public abstract class Game {
 	 * @return true if has neighbours
 	 */
 	public boolean hasNeighbour(int row, int column) {
-		return hasValueCell(row+1, column)
-				|| hasValueCell(row-1, column)
-				|| hasValueCell(row, column+1)
-				|| hasValueCell(row, column-1);
+		return board.hasNeighbour(row, column);
+	}
+
+	/**
+	 * Get squares of line where new word can be anchored: empty squares next to a tile
+	 * or begin squares before first move.
+	 * @param line row or column index
+	 * @param horizontally true for row, false for column
+	 * @return bit per square, lowest bit is first square
+	 */
+	public long getAnchorMask(int line, boolean horizontally) {
+		return firstMoveDone ? board.getAnchorMask(line, horizontally) : board.getBeginMask(line, horizontally);
 	}
 
 	/**
@@ -321,10 +479,7 @@ public abstract class Game {
 	 * @return true if has value
 	 */
 	public boolean hasValueCell(int row, int column) {
-		if(row < boardSize && row >=0 && column < boardSize && column >=0 && board[row][column] != null) {
-			return true;
-		}
-		return false;
+		return board.hasTile(row, column);
 	}
 
 
@@ -336,57 +491,221 @@ public abstract class Game {
 	 */
 	public int checkPossibleWord(Tile tile, boolean horizontally) {
 
-		List<Tile> tiles = new ArrayList<Tile>();
-		tiles.add(tile);
-		StringBuilder word = new StringBuilder(String.valueOf(tile.getLetter()));
-
-		int startRow = tile.getRow();
-		int startColumn = tile.getColumn();
-		int i;
-		int j;
-		if (horizontally) {
-			i = startColumn - 1;
-			j = startRow;
-		} else {
-			i = tile.getColumn();
-			j = tile.getRow() - 1;
+		int rowStep = horizontally ? 0 : 1;
+		int columnStep = horizontally ? 1 : 0;
+		int row = tile.getRow();
+		int column = tile.getColumn();
+
+		/* Go left or up to the beginning of word */
+		while(board.hasTile(row - rowStep, column - columnStep)) {
+			row -= rowStep;
+			column -= columnStep;
 		}
 
-		/* Go left or up */
-		while( i >= 0 && j >= 0 && (board[j][i] != null)) {
-			word.insert(0, board[j][i].getLetter());
-			tiles.add(0,board[j][i]);
-			if (horizontally) {
-				i--;
+		/* Go right or down walking dictionary letter by letter and count score */
+		cursor.reset();
+		int score = 0;
+		int multi = 1;
+		while(row < boardSize && column < boardSize) {
+			char letter;
+			int points;
+			int bonus = 1;
+			if(row == tile.getRow() && column == tile.getColumn()) {
+				letter = tile.getLetter();
+				points = tile.getPoints();
+				if(board.isEmpty(row, column)) {
+					bonus = board.getLetterMultiplier(row, column);
+					multi *= board.getWordMultiplier(row, column);
+				}
+			} else if(!board.isEmpty(row, column)) {
+				letter = board.getLetter(row, column);
+				points = board.getPoints(row, column);
 			} else {
-				j--;
+				break;
 			}
+			if(!cursor.advance(letter)) {
+				return INVALID_WORD_ERROR;
+			}
+			score += points * bonus;
+			row += rowStep;
+			column += columnStep;
 		}
-		if(horizontally) {
-			i = startColumn + 1;
-		} else {
-			j = startRow + 1;
+
+		if(cursor.getDepth() == 1) {
+			return 0;
 		}
 
-		/* Go right or down */
-		while( i < boardSize && j < boardSize && (board[j][i] != null)) {
-			word.append(board[j][i].getLetter()) ;
-			tiles.add(board[j][i]);
-			if (horizontally) {
-				i++;
-			} else {
-				j++;
-			}
+		if(cursor.isTerminal()) {
+			return score * multi;
 		}
+		return INVALID_WORD_ERROR;
+	}
+
+	/**
+	 * Count points of word crossing tile placed in move, using cross-checks.
+	 * @param tile Tile placed in move
+	 * @param horizontally true if move is in row, false if in column
+	 * @return points if word correct, 0 if there is no crossing word, else error code
+	 */
+	public int getCrossWordScore(Tile tile, boolean horizontally) {
+		return getCrossWordScore(tile.getRow(), tile.getColumn(), tile.getLetter(), tile.getPoints(), horizontally);
+	}
 
-		if(word.length() == 1) {
+	/**
+	 * Count points of word crossing tile placed in move, using cross-checks.
+	 * @param row tile row
+	 * @param column tile column
+	 * @param letter tile letter
+	 * @param points tile points
+	 * @param horizontally true if move is in row, false if in column
+	 * @return points if word correct, 0 if there is no crossing word, else error code
+	 */
+	public int getCrossWordScore(int row, int column, char letter, int points, boolean horizontally) {
+		if(!crossChecks.isAllowed(row, column, horizontally, letter)) {
+			return INVALID_WORD_ERROR;
+		}
+		int crossScore = crossChecks.getScore(row, column, horizontally);
+		if(crossScore == CrossChecks.NO_CROSS_WORD) {
 			return 0;
 		}
+		return (crossScore + points * board.getLetterMultiplier(row, column)) * board.getWordMultiplier(row, column);
+	}
+
+	/**
+	 * Place tiles on board and update cross-checks around them.
+	 * @param tiles tiles with row and column set
+	 */
+	protected void placeTiles(List<Tile> tiles) {
+		for(Tile tile : tiles) {
+			board.set(tile);
+			boardHash ^= zobrist.getTileKey(tile);
+		}
+		for(Tile tile : tiles) {
+			crossChecks.update(board, tile.getRow(), tile.getColumn());
+		}
+	}
 
-		if(tree.searchWord(word.toString())) {
-			return getScore(tiles);
+	/**
+	 * Apply move in place, so it can be taken back by 'undoMove()'.<br>
+	 * Tiles are placed on board, cross-checks are updated around them and first move is done.
+	 * If player is given, move points are added to him and move tiles (or rack tiles they were
+	 * copied from) are removed from his rack.
+	 * @param move valid move with points set
+	 * @param player player making move or null
+	 * @return move points
+	 */
+	public int applyMove(Move move, Player player) {
+		if(undoCount == undoStack.size()) {
+			undoStack.add(new Undo());
 		}
-		return INVALID_WORD_ERROR;
+		Undo undo = undoStack.get(undoCount++);
+		undo.move = move;
+		undo.player = player;
+		undo.points = move.getPoints();
+		undo.firstMoveDone = firstMoveDone;
+		undo.crossChecksMark = crossChecks.mark();
+		undo.rackCount = 0;
+
+		if(player != null) {
+			List<Tile> rack = player.getRack();
+			for(Tile tile : move.getTiles()) {
+				Tile rackTile = (tile.getCopyOf() != null) ? tile.getCopyOf() : tile;
+				int index = rack.indexOf(rackTile);
+				if(index >= 0 && undo.rackCount < DataManager.RACK_SIZE) {
+					rack.remove(index);
+					undo.rackTiles[undo.rackCount] = rackTile;
+					undo.rackIndices[undo.rackCount] = index;
+					undo.rackCount++;
+				}
+			}
+			player.addPoints(undo.points);
+		}
+		placeTiles(move.getTiles());
+		firstMoveDone = true;
+		return undo.points;
+	}
+
+	/**
+	 * Take back last applied move: board, cross-checks, first move flag, player points and rack.
+	 */
+	public void undoMove() {
+		if(undoCount == 0) {
+			throw new IllegalStateException("No move to undo");
+		}
+		Undo undo = undoStack.get(--undoCount);
+		for(Tile tile : undo.move.getTiles()) {
+			board.clear(tile.getRow(), tile.getColumn());
+			boardHash ^= zobrist.getTileKey(tile);
+		}
+		crossChecks.rollback(undo.crossChecksMark);
+		firstMoveDone = undo.firstMoveDone;
+
+		if(undo.player != null) {
+			List<Tile> rack = undo.player.getRack();
+			/* Insert in reverse order of removal, so every tile gets back its position */
+			for(int i=undo.rackCount-1; i>=0; i--) {
+				rack.add(undo.rackIndices[i], undo.rackTiles[i]);
+				undo.rackTiles[i] = null;
+			}
+			undo.player.addPoints(-undo.points);
+		}
+		undo.move = null;
+		undo.player = null;
+	}
+
+	/**
+	 * Copy board, cross-checks and hash of other game with same board size.
+	 * Applied moves of this game can't be taken back after copy.
+	 * @param source game to copy
+	 */
+	protected void copyBoardFrom(Game source) {
+		board.copyFrom(source.board);
+		crossChecks.copyFrom(source.crossChecks);
+		firstMoveDone = source.firstMoveDone;
+		boardHash = source.boardHash;
+		while(undoCount > 0) {
+			Undo undo = undoStack.get(--undoCount);
+			undo.move = null;
+			undo.player = null;
+		}
+	}
+
+	/**
+	 * Get Zobrist hash of tiles on board.
+	 * @return board hash
+	 */
+	public long getBoardHash() {
+		return boardHash;
+	}
+
+	/**
+	 * Get Zobrist hash of position: tiles on board, racks of players and player to move.
+	 * @param racks racks of players in order of play
+	 * @param side index of player to move
+	 * @return position hash
+	 */
+	public long getPositionHash(List<List<Tile>> racks, int side) {
+		long hash = boardHash ^ Zobrist.getSideKey(side);
+		for(int i=0; i<racks.size(); i++) {
+			hash ^= Zobrist.getRackKey(i, racks.get(i));
+		}
+		return hash;
+	}
+
+	/**
+	 * Get Zobrist keys of board squares.
+	 * @return keys
+	 */
+	public Zobrist getZobrist() {
+		return zobrist;
+	}
+
+	/**
+	 * Get number of applied moves that can be taken back.
+	 * @return undo stack size
+	 */
+	public int getUndoCount() {
+		return undoCount;
 	}
 
 	/**
@@ -431,27 +750,11 @@ public abstract class Game {
 		int multi = 1;
 
 		for(Tile tile : tiles) {
-			if (board[tile.getRow()][tile.getColumn()] != null) {
+			if (!board.isEmpty(tile.getRow(), tile.getColumn())) {
 				score += tile.getPoints();
 			} else {
-				switch (boardBonuses[tile.getRow()][tile.getColumn()]) {
-					case DOUBLE_LETTER:
-						score += tile.getPoints() * 2;
-						break;
-					case TRIPLE_LETTER:
-						score += tile.getPoints() * 3;
-						break;
-					case DOUBLE_WORD:
-						score += tile.getPoints();
-						multi *= 2;
-						break;
-					case TRIPLE_WORD:
-						score += tile.getPoints();
-						multi *= 3;
-						break;
-					default:
-						score += tile.getPoints();
-				}
+				score += tile.getPoints() * board.getLetterMultiplier(tile.getRow(), tile.getColumn());
+				multi *= board.getWordMultiplier(tile.getRow(), tile.getColumn());
 			}
 		}
 
@@ -459,13 +762,53 @@ public abstract class Game {
 	}
 
 	/**
-	 * Get dictionary tree.
-	 * @return tree
+	 * Get bonus points for using all tiles from rack in current game version.
+	 * @return bingo points
+	 */
+	public int getBingoBonus() {
+		switch (gameVersion) {
+			case WORDS_WITH_FRIENDS_15x15:
+			case WORDS_WITH_FRIENDS_11x11:
+				return DataManager.WORDS_WITH_FRIENDS_BINGO;
+			default:
+				return DataManager.SCRABBLE_BINGO;
+		}
+	}
+
+	/**
+	 * Get tiles of the only opponent of player when no tiles can be drawn anymore
+	 * (both racks are known and endgame can be solved).
+	 * @param player player to move
+	 * @return opponent rack or null if it isn't endgame or opponent rack is unknown
+	 */
+	public List<Tile> getEndgameRack(Player player) {
+		return null;
+	}
+
+	/**
+	 * Get number of passes in a row before current move.
+	 * @return pass count
+	 */
+	public int getPassCount() {
+		return 0;
+	}
+
+	/**
+	 * Get dictionary.
+	 * @return dictionary
 	 */
-	public WordsTree getTree() {
+	public WordsDictionary getTree() {
 		return tree;
 	}
 
+	/**
+	 * Get cross-checks of board squares.
+	 * @return cross-checks
+	 */
+	public CrossChecks getCrossChecks() {
+		return crossChecks;
+	}
+
 	/**
 	 * Get board scheme.
 	 * @return board scheme
@@ -486,10 +829,20 @@ public abstract class Game {
 	 * Get board.
 	 * @return board
 	 */
-	public Tile[][] getBoard() {
+	public Board getBoard() {
 		return board;
 	}
 
+	/**
+	 * Get tile on board square. Tile is created from board, so changing it doesn't change board.
+	 * @param row row
+	 * @param column column
+	 * @return tile or null if square is empty
+	 */
+	public Tile getTile(int row, int column) {
+		return board.getTile(row, column);
+	}
+
 	/**
 	 * Check whether first move was done before.
 	 * @return true if was
@@ -0,0 +1,55 @@
+package main.game;
+
+/**
+ * Interface of game events listener.<br>
+ * Game calls listener from its own thread and never touches user interface, so games
+ * can run without JavaFX (simulations, tournaments, benchmarks). Game controller is one
+ * of implementations and moves events to JavaFX thread.
+ * All methods do nothing by default.
+ */
+public interface GameListener {
+
+	/**
+	 * Called when turn of player starts, after rack was refilled.
+	 * @param player current player
+	 */
+	default void onTurnStarted(Player player) {
+	}
+
+	/**
+	 * Called when game waits for human player move.
+	 * @param player current player
+	 */
+	default void onHumanTurn(Player player) {
+	}
+
+	/**
+	 * Called when bot starts searching for move.
+	 * @param player current bot
+	 */
+	default void onBotTurn(Player player) {
+	}
+
+	/**
+	 * Called when bot chose move, before move is committed.
+	 * @param player current bot
+	 * @param move bot move
+	 * @param points move points
+	 */
+	default void onBotMove(Player player, Move move, int points) {
+	}
+
+	/**
+	 * Called when bot passed move.
+	 * @param player current bot
+	 */
+	default void onBotPass(Player player) {
+	}
+
+	/**
+	 * Called when game ended.
+	 */
+	default void onGameEnded() {
+	}
+
+}
@@ -0,0 +1,93 @@
+package main.game;
+
+/**
+ * Read-only view of dictionary.<br>
+ * Words can be searched from many threads at once, adding or loading words is not supported.
+ */
+public class ImmutableDictionary implements WordsDictionary {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Wrapped dictionary, never changed after wrapping */
+	private final WordsDictionary dictionary;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor. Wrap loaded dictionary.
+	 * @param dictionary loaded dictionary, must not be changed later
+	 */
+	public ImmutableDictionary(WordsDictionary dictionary) {
+		this.dictionary = dictionary;
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Not supported.
+	 * @param filePath file path
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void loadWords(String filePath) {
+		throw new UnsupportedOperationException("Dictionary is immutable");
+	}
+
+	/**
+	 * Not supported.
+	 * @param word word to add
+	 * @return never returns
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean addWord(String word) {
+		throw new UnsupportedOperationException("Dictionary is immutable");
+	}
+
+	/**
+	 * Check that given word exists in dictionary.
+	 * @param word to search
+	 * @return true if word is valid
+	 */
+	@Override
+	public boolean searchWord(String word) {
+		return dictionary.searchWord(word);
+	}
+
+	/**
+	 * Check that given path, starting from root, exists.
+	 * @param word path
+	 * @return true if path exists
+	 */
+	@Override
+	public boolean existsPath(String word) {
+		return dictionary.existsPath(word);
+	}
+
+	/**
+	 * Returns words number in dictionary.
+	 * @return words number
+	 */
+	@Override
+	public int getWordsCount() {
+		return dictionary.getWordsCount();
+	}
+
+	/**
+	 * Create new cursor at the beginning of word.
+	 * @return cursor
+	 */
+	@Override
+	public DictionaryCursor getCursor() {
+		return dictionary.getCursor();
+	}
+
+}
@@ -0,0 +1,362 @@
+package main.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.*;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Class that keeps values of tiles left on rack after move (rack leaves).<br>
+ * Every multiset of up to 6 tiles (letters and blank) has value in tenths of point. Leave is
+ * identified by 64-bit rack key: sum of random keys of its tiles, so key is updated in O(1)
+ * when tile is added or removed and lookup is usually single probe in open addressing hash table.
+ * <br>
+ * Values are precomputed from tile values, duplicates and vowel balance and kept in binary
+ * file (little endian): magic, version, entries count, values of all leaves in order of
+ * enumeration. File is generated when missing.
+ */
+public class LeaveTable {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Magic number at the beginning of file ("SCRL") */
+	private static final int MAGIC = 0x5343524C;
+
+	/** Version of file format */
+	public static final int VERSION = 1;
+
+	/** Header size in bytes */
+	private static final int HEADER_SIZE = 12;
+
+	/** Byte order of file */
+	private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+	/** Max number of tiles in leave */
+	public static final int MAX_LEAVE_SIZE = DataManager.RACK_SIZE - 1;
+
+	/** Number of tile kinds, letters and blank */
+	public static final int TILES_COUNT = PackedWordsGraph.LETTERS_COUNT + 1;
+
+	/** Index of blank in tile kinds */
+	public static final int BLANK = PackedWordsGraph.LETTERS_COUNT;
+
+	/** Values are kept in tenths of point */
+	public static final int SCALE = 10;
+
+	/** Random keys of tile kinds */
+	private static final long[] TILE_KEYS = new long[TILES_COUNT];
+
+	/** Value of single tile in tenths of point, A - Z and blank */
+	private static final int[] TILE_VALUES = {
+			/*A*/10, /*B*/-20, /*C*/5, /*D*/5, /*E*/15, /*F*/-20, /*G*/-20, /*H*/10, /*I*/-5,
+			/*J*/-15, /*K*/-10, /*L*/-5, /*M*/5, /*N*/0, /*O*/-10, /*P*/-5, /*Q*/-70, /*R*/15,
+			/*S*/80, /*T*/0, /*U*/-30, /*V*/-55, /*W*/-40, /*X*/35, /*Y*/-10, /*Z*/30, /*blank*/250
+	};
+
+	/** Penalty for every duplicated consonant */
+	private static final int DUPLICATE_PENALTY = 30;
+
+	/** Penalty for every duplicated vowel */
+	private static final int DUPLICATE_VOWEL_PENALTY = 40;
+
+	/** Penalty for every vowel over or under balanced leave */
+	private static final int BALANCE_PENALTY = 25;
+
+	/** Bonus for Q with U */
+	private static final int QU_BONUS = 30;
+
+	/** Penalty for Q without U */
+	private static final int Q_WITHOUT_U_PENALTY = 30;
+
+	static {
+		SplittableRandom random = new SplittableRandom(0x5343524CL);
+		for(int i=0; i<TILES_COUNT; i++) {
+			TILE_KEYS[i] = random.nextLong();
+		}
+	}
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Shared table */
+	private static volatile LeaveTable instance;
+
+	/** Number of leaves */
+	private int entriesCount;
+
+	/** Rack keys in hash table, 0 marks empty slot (empty leave has no slot) */
+	private long[] keys;
+
+	/** Leave values in hash table */
+	private short[] slotValues;
+
+	/** Value of empty leave */
+	private short emptyValue;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor. Build hash table for given values.
+	 * @param values leave values in order of enumeration
+	 */
+	private LeaveTable(short[] values) {
+		entriesCount = values.length;
+		int capacity = entriesCount + entriesCount / 3 + 1;
+		keys = new long[capacity];
+		slotValues = new short[capacity];
+		int[] index = new int[1];
+		enumerate(0, 0, 0L, new int[TILES_COUNT], (key, counts, size) -> {
+			short value = values[index[0]++];
+			if(size == 0) {
+				emptyValue = value;
+				return;
+			}
+			int slot = getSlot(key);
+			while(keys[slot] != 0) {
+				slot = (slot + 1 == keys.length) ? 0 : slot + 1;
+			}
+			keys[slot] = key;
+			slotValues[slot] = value;
+		});
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Interface of leaves enumeration callback.
+	 */
+	private interface Visitor {
+
+		/**
+		 * Called for every leave.
+		 * @param key rack key
+		 * @param counts number of tiles of every kind
+		 * @param size number of tiles
+		 */
+		void visit(long key, int[] counts, int size);
+	}
+
+	/**
+	 * Visit every leave up to MAX_LEAVE_SIZE tiles, always in the same order.
+	 * @param kind current tile kind
+	 * @param size number of tiles so far
+	 * @param key rack key so far
+	 * @param counts number of tiles of every kind so far
+	 * @param visitor callback
+	 */
+	private static void enumerate(int kind, int size, long key, int[] counts, Visitor visitor) {
+		if(kind == TILES_COUNT) {
+			visitor.visit(key, counts, size);
+			return;
+		}
+		for(int count=0; size + count <= MAX_LEAVE_SIZE; count++) {
+			counts[kind] = count;
+			enumerate(kind + 1, size + count, key + count * TILE_KEYS[kind], counts, visitor);
+		}
+		counts[kind] = 0;
+	}
+
+	/**
+	 * Get home slot of key.
+	 * @param key rack key
+	 * @return slot
+	 */
+	private int getSlot(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (((hash >>> 32) * keys.length) >>> 32);
+	}
+
+	/**
+	 * Get key of tile kind.
+	 * @param kind letter index (0 is 'A') or BLANK
+	 * @return tile key
+	 */
+	public static long getTileKey(int kind) {
+		return TILE_KEYS[kind];
+	}
+
+	/**
+	 * Get rack key of tiles.
+	 * @param tiles tiles
+	 * @return rack key
+	 */
+	public static long getRackKey(List<Tile> tiles) {
+		long key = 0;
+		for(Tile tile : tiles) {
+			key += TILE_KEYS[tile.isStar() ? BLANK : tile.getLetter() - 'A'];
+		}
+		return key;
+	}
+
+	/**
+	 * Get value of leave.
+	 * @param key rack key of leave
+	 * @return value in tenths of point, 0 for unknown leave
+	 */
+	public int getValue(long key) {
+		if(key == 0) {
+			return emptyValue;
+		}
+		int slot = getSlot(key);
+		long slotKey;
+		while((slotKey = keys[slot]) != 0) {
+			if(slotKey == key) {
+				return slotValues[slot];
+			}
+			slot = (slot + 1 == keys.length) ? 0 : slot + 1;
+		}
+		return 0;
+	}
+
+	/**
+	 * Get number of leaves.
+	 * @return entries count
+	 */
+	public int getEntriesCount() {
+		return entriesCount;
+	}
+
+	/**
+	 * Count value of leave from its tiles.
+	 * @param counts number of tiles of every kind
+	 * @param size number of tiles
+	 * @return value in tenths of point
+	 */
+	private static int evaluate(int[] counts, int size) {
+		int value = 0;
+		int vowels = 0;
+		for(int kind=0; kind<TILES_COUNT; kind++) {
+			int count = counts[kind];
+			if(count == 0) {
+				continue;
+			}
+			boolean vowel = kind != BLANK && "AEIOU".indexOf('A' + kind) >= 0;
+			value += count * TILE_VALUES[kind];
+			if(kind != BLANK) {
+				value -= (count - 1) * (vowel ? DUPLICATE_VOWEL_PENALTY : DUPLICATE_PENALTY);
+			}
+			if(vowel) {
+				vowels += count;
+			}
+		}
+
+		/* About 40% of letters should be vowels, blank fits anywhere */
+		int letters = size - counts[BLANK];
+		value -= BALANCE_PENALTY * Math.abs(vowels * 10 - letters * 4) / 10;
+
+		if(counts['Q' - 'A'] > 0) {
+			value += (counts['U' - 'A'] > 0) ? QU_BONUS : -Q_WITHOUT_U_PENALTY;
+		}
+		return value;
+	}
+
+	/**
+	 * Compute values of all leaves.
+	 * @return new table
+	 */
+	public static LeaveTable generate() {
+		int[] count = new int[1];
+		enumerate(0, 0, 0L, new int[TILES_COUNT], (key, counts, size) -> count[0]++);
+		short[] values = new short[count[0]];
+		int[] index = new int[1];
+		enumerate(0, 0, 0L, new int[TILES_COUNT], (key, counts, size) -> values[index[0]++] = (short) evaluate(counts, size));
+		return new LeaveTable(values);
+	}
+
+	/**
+	 * Write table to file. File is written the same way as compiled dictionary,
+	 * so it is readable by other users and never seen incomplete.
+	 * @param path file path
+	 * @throws IOException thrown when writing fails
+	 */
+	public void save(Path path) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 2 * entriesCount).order(BYTE_ORDER);
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(entriesCount);
+		enumerate(0, 0, 0L, new int[TILES_COUNT], (key, counts, size) -> buffer.putShort((short) getValue(key)));
+		buffer.flip();
+		DictionaryFile.writeFile(path, buffer);
+	}
+
+	/**
+	 * Load table from file.
+	 * @param path file path
+	 * @return loaded table
+	 * @throws IOException thrown when reading fails or file is invalid
+	 */
+	public static LeaveTable load(Path path) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(BYTE_ORDER);
+		if(buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+			throw new IOException("Invalid leave table file: " + path);
+		}
+		int entriesCount = buffer.getInt();
+		if(buffer.remaining() != 2 * entriesCount) {
+			throw new IOException("Invalid leave table file: " + path);
+		}
+		short[] values = new short[entriesCount];
+		buffer.asShortBuffer().get(values);
+
+		int[] count = new int[1];
+		enumerate(0, 0, 0L, new int[TILES_COUNT], (key, counts, size) -> count[0]++);
+		if(count[0] != entriesCount) {
+			throw new IOException("Invalid leave table file: " + path);
+		}
+		return new LeaveTable(values);
+	}
+
+	/**
+	 * Get shared table. Table is loaded from leaves file, file is generated first if missing or invalid.
+	 * If file can't be written, generated table is used.
+	 * @return leave table
+	 */
+	public static LeaveTable getInstance() {
+		LeaveTable table = instance;
+		if(table == null) {
+			synchronized(LeaveTable.class) {
+				table = instance;
+				if(table == null) {
+					Path path = Paths.get(DataManager.LEAVES_FILE);
+					try {
+						table = load(path);
+					} catch (IOException e) {
+						table = generate();
+						try {
+							table.save(path);
+						} catch (IOException ignored) {
+							/* Directory not writable. Use table built in memory */
+						}
+					}
+					instance = table;
+				}
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Generate leaves file without starting the game.<br>
+	 * Argument: file path (default leaves file if missing).
+	 * @param args optional arguments
+	 * @throws IOException thrown when writing fails
+	 */
+	public static void main(String[] args) throws IOException {
+		Path path = Paths.get((args.length > 0) ? args[0] : DataManager.LEAVES_FILE);
+		LeaveTable table = generate();
+		table.save(path);
+		System.out.println(path + ": " + table.getEntriesCount() + " leaves");
+	}
+
+}
@@ -0,0 +1,60 @@
+package main.game;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Game with board copied from another game, used to look moves ahead.<br>
+ * Moves are applied on it and taken back, so the copied game doesn't change.
+ */
+class LookaheadGame extends Game {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Move generator on this board */
+	private final MoveGenerator generator = new MoveGenerator(this);
+
+	/** Collector of best move */
+	private final MoveCollector collector = new MoveCollector(1);
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Constructor.
+	 * @throws IOException when loading board scheme fails
+	 */
+	LookaheadGame() throws IOException {
+		super();
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Find move with most points.
+	 * @param rack tiles on rack
+	 * @return best move or null if there is no move
+	 */
+	Move getBestMove(List<Tile> rack) {
+		collector.clear();
+		generator.generateMoves(rack, collector);
+		return collector.size() == 0 ? null : collector.getMoves().get(0);
+	}
+
+	/**
+	 * Generate all legal moves.
+	 * @param rack tiles on rack
+	 * @return moves with points set
+	 */
+	List<Move> generateMoves(List<Tile> rack) {
+		return generator.generateMoves(rack);
+	}
+
+}
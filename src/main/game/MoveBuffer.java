@@ -0,0 +1,176 @@
+package main.game;
+
+import java.util.Arrays;
+
+/**
+ * Class that represents move as primitive arrays.<br>
+ * Buffer is reused between moves, so checking moves with 'Game.checkMove(MoveBuffer)'
+ * allocates no objects. Used by bot search instead of Move with Tile objects.
+ */
+public class MoveBuffer {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Rows of placed tiles */
+	private int[] rows;
+
+	/** Columns of placed tiles */
+	private int[] columns;
+
+	/** Letters of placed tiles */
+	private char[] letters;
+
+	/** Points of placed tiles, 0 for blanks */
+	private int[] points;
+
+	/** Number of placed tiles */
+	private int size = 0;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Constructor that create buffer for full rack.
+	 */
+	public MoveBuffer() {
+		this(DataManager.RACK_SIZE);
+	}
+
+	/**
+	 * Parameterized constructor.
+	 * @param capacity initial number of tiles
+	 */
+	public MoveBuffer(int capacity) {
+		rows = new int[capacity];
+		columns = new int[capacity];
+		letters = new char[capacity];
+		points = new int[capacity];
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Remove all tiles.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Add placed tile.
+	 * @param row row
+	 * @param column column
+	 * @param letter capital letter
+	 * @param points tile points
+	 */
+	public void add(int row, int column, char letter, int points) {
+		if(size == rows.length) {
+			int capacity = Math.max(1, size * 2);
+			rows = Arrays.copyOf(rows, capacity);
+			columns = Arrays.copyOf(columns, capacity);
+			letters = Arrays.copyOf(letters, capacity);
+			this.points = Arrays.copyOf(this.points, capacity);
+		}
+		rows[size] = row;
+		columns[size] = column;
+		letters[size] = letter;
+		this.points[size] = points;
+		size++;
+	}
+
+	/**
+	 * Fill buffer with tiles of move.
+	 * @param move move
+	 */
+	public void set(Move move) {
+		clear();
+		for(Tile tile : move.getTiles()) {
+			add(tile.getRow(), tile.getColumn(), tile.getLetter(), tile.getPoints());
+		}
+	}
+
+	/**
+	 * Sort tiles by columns or rows using insertion sort.
+	 * @param horizontally sort by columns if true, by rows if false
+	 */
+	public void sort(boolean horizontally) {
+		int[] keys = horizontally ? columns : rows;
+		for(int i=1; i<size; i++) {
+			for(int j=i; j>0 && keys[j] < keys[j-1]; j--) {
+				swap(j, j-1);
+			}
+		}
+	}
+
+	/**
+	 * Swap two tiles.
+	 * @param i first index
+	 * @param j second index
+	 */
+	private void swap(int i, int j) {
+		int row = rows[i];
+		rows[i] = rows[j];
+		rows[j] = row;
+		int column = columns[i];
+		columns[i] = columns[j];
+		columns[j] = column;
+		char letter = letters[i];
+		letters[i] = letters[j];
+		letters[j] = letter;
+		int tilePoints = points[i];
+		points[i] = points[j];
+		points[j] = tilePoints;
+	}
+
+	/**
+	 * Get number of placed tiles.
+	 * @return tiles count
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get row of tile.
+	 * @param i tile index
+	 * @return row
+	 */
+	public int getRow(int i) {
+		return rows[i];
+	}
+
+	/**
+	 * Get column of tile.
+	 * @param i tile index
+	 * @return column
+	 */
+	public int getColumn(int i) {
+		return columns[i];
+	}
+
+	/**
+	 * Get letter of tile.
+	 * @param i tile index
+	 * @return letter
+	 */
+	public char getLetter(int i) {
+		return letters[i];
+	}
+
+	/**
+	 * Get points of tile.
+	 * @param i tile index
+	 * @return points
+	 */
+	public int getPoints(int i) {
+		return points[i];
+	}
+
+}
@@ -0,0 +1,387 @@
+package main.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class that keeps best moves found by search, at most given number of them.<br>
+ * Moves are kept in binary min-heap ordered by score (points or other evaluation of move
+ * given by search), so the worst kept move is replaced
+ * in O(log k) and memory doesn't grow with number of checked moves. Search should ask
+ * 'accepts()' before creating Move object. Moves with same placement (same hash) are
+ * kept once. Hashes of kept moves are also kept in small open addressing set, so duplicate
+ * is found in O(1).
+ * <br>
+ * Collector can also keep levels: the best move (by score) of every points value of offered
+ * moves. Levels describe all offered moves, not only the best of them, so bot with lower
+ * difficulty can choose from the whole range of points.
+ */
+public class MoveCollector {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Max number of kept moves */
+	private final int capacity;
+
+	/** Scores of kept moves in heap order */
+	private final int[] scores;
+
+	/** Placement hashes of kept moves in heap order */
+	private final long[] hashes;
+
+	/** Kept moves in heap order */
+	private final Move[] moves;
+
+	/** Set of hashes of kept moves, linear probing */
+	private final long[] hashSet;
+
+	/** Used slots of hash set */
+	private final boolean[] hashSetUsed;
+
+	/** Shift of hash to slot index */
+	private final int hashSetShift;
+
+	/** Best move of every points value or null if levels aren't kept */
+	private Move[] levelMoves;
+
+	/** Scores of level moves */
+	private int[] levelScores;
+
+	/** Max points of level move, -1 if there are no levels */
+	private int maxLevel = -1;
+
+	/** Number of kept moves */
+	private int size = 0;
+
+	/** Number of moves offered to collector */
+	private long offeredCount = 0;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor. Levels aren't kept.
+	 * @param capacity max number of kept moves
+	 */
+	public MoveCollector(int capacity) {
+		this(capacity, false);
+	}
+
+	/**
+	 * Parameterized constructor.
+	 * @param capacity max number of kept moves
+	 * @param keepLevels true to keep the best move of every points value
+	 */
+	public MoveCollector(int capacity, boolean keepLevels) {
+		this.capacity = Math.max(1, capacity);
+		scores = new int[this.capacity];
+		hashes = new long[this.capacity];
+		moves = new Move[this.capacity];
+		/* Set is at most half full */
+		int slotsBits = Integer.SIZE - Integer.numberOfLeadingZeros(2 * this.capacity - 1);
+		hashSet = new long[1 << slotsBits];
+		hashSetUsed = new boolean[1 << slotsBits];
+		hashSetShift = Long.SIZE - slotsBits;
+		if(keepLevels) {
+			levelMoves = new Move[64];
+			levelScores = new int[64];
+		}
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Remove all moves.
+	 */
+	public void clear() {
+		Arrays.fill(moves, 0, size, null);
+		Arrays.fill(hashSetUsed, false);
+		if(levelMoves != null) {
+			Arrays.fill(levelMoves, 0, maxLevel + 1, null);
+			maxLevel = -1;
+		}
+		size = 0;
+		offeredCount = 0;
+	}
+
+	/**
+	 * Check that move with given score would be kept. Counts offered moves.
+	 * @param score move score
+	 * @return true if collector isn't full or move is better than the worst kept move
+	 */
+	public boolean accepts(int score) {
+		offeredCount++;
+		return size < capacity || score > scores[0];
+	}
+
+	/**
+	 * Check that move with given points and score would be kept as one of the best moves
+	 * or as the best move of its level. Counts offered moves.
+	 * @param points move points
+	 * @param score move score
+	 * @return true if move would be kept
+	 */
+	public boolean accepts(int points, int score) {
+		return accepts(score) || (levelMoves != null && isBetterLevel(points, score));
+	}
+
+	/**
+	 * Check that move is the best of its level.
+	 * @param points move points
+	 * @param score move score
+	 * @return true if there is no move with these points or it has lower score
+	 */
+	private boolean isBetterLevel(int points, int score) {
+		return points > maxLevel || levelMoves[points] == null || score > levelScores[points];
+	}
+
+	/**
+	 * Keep move as the best of its level if it is.
+	 * @param score move score
+	 * @param move move with points set
+	 * @return true if move was kept
+	 */
+	private boolean addLevel(int score, Move move) {
+		int points = move.getPoints();
+		if(!isBetterLevel(points, score)) {
+			return false;
+		}
+		if(points >= levelMoves.length) {
+			int length = Math.max(points + 1, 2 * levelMoves.length);
+			levelMoves = Arrays.copyOf(levelMoves, length);
+			levelScores = Arrays.copyOf(levelScores, length);
+		}
+		levelMoves[points] = move;
+		levelScores[points] = score;
+		maxLevel = Math.max(maxLevel, points);
+		return true;
+	}
+
+	/**
+	 * Check that move with given placement is kept.
+	 * @param hash placement hash
+	 * @return true if kept
+	 */
+	public boolean contains(long hash) {
+		int mask = hashSet.length - 1;
+		for(int slot=getSlot(hash); hashSetUsed[slot]; slot=(slot + 1) & mask) {
+			if(hashSet[slot] == hash) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get first slot of hash in hash set.
+	 * @param hash placement hash
+	 * @return slot index
+	 */
+	private int getSlot(long hash) {
+		return (int) ((hash * 0x9E3779B97F4A7C15L) >>> hashSetShift);
+	}
+
+	/**
+	 * Put hash into hash set.
+	 * @param hash placement hash, not in set
+	 */
+	private void insertHash(long hash) {
+		int mask = hashSet.length - 1;
+		int slot = getSlot(hash);
+		while(hashSetUsed[slot]) {
+			slot = (slot + 1) & mask;
+		}
+		hashSet[slot] = hash;
+		hashSetUsed[slot] = true;
+	}
+
+	/**
+	 * Remove hash from hash set. Following hashes of the same probe run are moved back,
+	 * so no slot marks are needed.
+	 * @param hash placement hash in set
+	 */
+	private void removeHash(long hash) {
+		int mask = hashSet.length - 1;
+		int slot = getSlot(hash);
+		while(hashSet[slot] != hash) {
+			slot = (slot + 1) & mask;
+		}
+		int next = (slot + 1) & mask;
+		while(hashSetUsed[next]) {
+			int home = getSlot(hashSet[next]);
+			/* Move hash back if its home slot isn't between free slot and its slot */
+			if(((next - home) & mask) >= ((next - slot) & mask)) {
+				hashSet[slot] = hashSet[next];
+				slot = next;
+			}
+			next = (next + 1) & mask;
+		}
+		hashSetUsed[slot] = false;
+	}
+
+	/**
+	 * Add move scored by its points if it is better than the worst kept move and its placement isn't kept.
+	 * @param hash placement hash
+	 * @param move move with points set
+	 * @return true if move was kept
+	 */
+	public boolean add(long hash, Move move) {
+		return add(hash, move.getPoints(), move);
+	}
+
+	/**
+	 * Add move if it is better than the worst kept move and its placement isn't kept.
+	 * @param hash placement hash
+	 * @param score move score
+	 * @param move move with points set
+	 * @return true if move was kept
+	 */
+	public boolean add(long hash, int score, Move move) {
+		boolean level = (levelMoves != null) && addLevel(score, move);
+		if((size == capacity && score <= scores[0]) || contains(hash)) {
+			return level;
+		}
+		if(size < capacity) {
+			/* Append and sift up */
+			int i = size++;
+			while(i > 0 && scores[(i - 1) / 2] > score) {
+				set(i, (i - 1) / 2);
+				i = (i - 1) / 2;
+			}
+			put(i, score, hash, move);
+		} else {
+			/* Replace the worst move and sift down */
+			removeHash(hashes[0]);
+			int i = 0;
+			while(2 * i + 1 < size) {
+				int child = 2 * i + 1;
+				if(child + 1 < size && scores[child + 1] < scores[child]) {
+					child++;
+				}
+				if(scores[child] >= score) {
+					break;
+				}
+				set(i, child);
+				i = child;
+			}
+			put(i, score, hash, move);
+		}
+		insertHash(hash);
+		return true;
+	}
+
+	/**
+	 * Add all moves of other collector.
+	 * @param other collector
+	 */
+	public void addAll(MoveCollector other) {
+		for(int i=0; i<other.size; i++) {
+			if(size < capacity || other.scores[i] > scores[0]) {
+				add(other.hashes[i], other.scores[i], other.moves[i]);
+			}
+		}
+		if(levelMoves != null && other.levelMoves != null) {
+			for(int points=0; points<=other.maxLevel; points++) {
+				if(other.levelMoves[points] != null) {
+					addLevel(other.levelScores[points], other.levelMoves[points]);
+				}
+			}
+		}
+		offeredCount += other.offeredCount;
+	}
+
+	/**
+	 * Copy move from one heap position to another.
+	 * @param to target position
+	 * @param from source position
+	 */
+	private void set(int to, int from) {
+		put(to, scores[from], hashes[from], moves[from]);
+	}
+
+	/**
+	 * Put move on heap position.
+	 * @param i position
+	 * @param score move score
+	 * @param hash placement hash
+	 * @param move move
+	 */
+	private void put(int i, int score, long hash, Move move) {
+		scores[i] = score;
+		hashes[i] = hash;
+		moves[i] = move;
+	}
+
+	/**
+	 * Get kept moves sorted by score in descending order.
+	 * @return list of moves
+	 */
+	public List<Move> getMoves() {
+		/* Sort positions by score, score in high bits and position in low bits */
+		long[] order = new long[size];
+		for(int i=0; i<size; i++) {
+			order[i] = ((long) scores[i] << 32) | i;
+		}
+		Arrays.sort(order);
+		List<Move> sorted = new ArrayList<>(size);
+		for(int i=size-1; i>=0; i--) {
+			sorted.add(moves[(int) order[i]]);
+		}
+		return sorted;
+	}
+
+	/**
+	 * Get the best move of every points value of offered moves.
+	 * @return list of moves sorted by points in descending order, empty if levels aren't kept
+	 */
+	public List<Move> getLevelMoves() {
+		List<Move> levels = new ArrayList<>();
+		for(int points=maxLevel; points>=0; points--) {
+			if(levelMoves[points] != null) {
+				levels.add(levelMoves[points]);
+			}
+		}
+		return levels;
+	}
+
+	/**
+	 * Check that collector keeps levels.
+	 * @return true if the best move of every points value is kept
+	 */
+	public boolean isKeepingLevels() {
+		return levelMoves != null;
+	}
+
+	/**
+	 * Get max number of kept moves.
+	 * @return capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Get number of kept moves.
+	 * @return moves count
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get number of moves offered to collector.
+	 * @return offered moves count
+	 */
+	public long getOfferedCount() {
+		return offeredCount;
+	}
+
+}
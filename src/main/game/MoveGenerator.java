@@ -0,0 +1,560 @@
+package main.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class that generates all legal moves for given board and rack.<br>
+ * Implementation of Appel-Jacobson algorithm. Every empty square next to a tile is an anchor.
+ * Word is built from anchor: left part is placed on empty squares before anchor, then word
+ * is extended to the right through board tiles and rack tiles. Dictionary cursor is walked
+ * letter by letter and every square has cross-check mask of letters that make valid
+ * perpendicular words (kept by game), so only legal moves are built and every move is found once.
+ * On every square only letters in children mask of cursor, cross-check mask and rack mask
+ * are tried. Blank on rack makes rack mask full, so blank branches only over letters which
+ * continue some word, like any other tile.
+ * <br>
+ * Columns are handled as rows of transposed board. Generator is not thread safe, but it only
+ * reads board, so lines can be split between generators (see ParallelMoveGenerator).
+ */
+public class MoveGenerator {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Index of blank in rack counts */
+	private static final int BLANK = PackedWordsGraph.LETTERS_COUNT;
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Game with board */
+	private Game game;
+
+	/** Dictionary cursor used to build words */
+	private DictionaryCursor cursor;
+
+	/** Board size */
+	private int size;
+
+	/** True if current line is a row, false if column */
+	private boolean horizontally;
+
+	/** Index of current row or column */
+	private int line;
+
+	/** Letters of board tiles on current line, 0 for empty squares */
+	private char[] letters;
+
+	/** Points of board tiles on current line */
+	private int[] points;
+
+	/** Allowed letters on every square of current line */
+	private int[] crossMasks;
+
+	/** Points of perpendicular word tiles on every square of current line or CrossChecks.NO_CROSS_WORD */
+	private int[] crossScores;
+
+	/** Letter multipliers of empty squares of current line */
+	private int[] letterMultipliers;
+
+	/** Word multipliers of empty squares of current line */
+	private int[] wordMultipliers;
+
+	/** Anchor squares of current line, bit per square */
+	private long anchors;
+
+	/** Occupied squares of current line, bit per square */
+	private long occupied;
+
+	/** Current anchor */
+	private int anchor;
+
+	/** Number of rack tiles of every letter, blanks at the end */
+	private int[] rackCounts = new int[BLANK + 1];
+
+	/** Points of rack tiles of every letter, blank at the end */
+	private int[] rackPoints = new int[BLANK + 1];
+
+	/** Letters on rack, bit per letter, all letters while rack has blank */
+	private int rackMask;
+
+	/** Current rack */
+	private List<Tile> rack;
+
+	/** Letters of left part placed before anchor */
+	private char[] leftLetters;
+
+	/** Blank flags of left part */
+	private boolean[] leftBlanks;
+
+	/** Letters placed on current line, 0 for squares without new tile */
+	private char[] placedLetters;
+
+	/** Blank flags of placed tiles */
+	private boolean[] placedBlanks;
+
+	/** Number of placed tiles */
+	private int placedCount;
+
+	/** Generated moves, used when there is no collector */
+	private List<Move> moves;
+
+	/** Collector of best moves or null */
+	private MoveCollector collector;
+
+	/** Current bot search or null */
+	private BotSearch search;
+
+	/** Number of moves found on current line */
+	private long lineMovesCount;
+
+	/** Points of best move reported to search */
+	private int bestPoints;
+
+	/** Values of rack leaves added to move scores or null */
+	private LeaveTable leaves;
+
+	/** Rack key of tiles left on rack */
+	private long leaveKey;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor.
+	 * @param game game with board and dictionary
+	 */
+	public MoveGenerator(Game game) {
+		this.game = game;
+		cursor = game.getTree().getCursor();
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Generate all legal moves with given rack.
+	 * @param rack tiles on rack
+	 * @return list of moves with points set
+	 */
+	public List<Move> generateMoves(List<Tile> rack) {
+		moves = new ArrayList<>();
+		collector = null;
+		generate(rack);
+		List<Move> result = moves;
+		moves = null;
+		return result;
+	}
+
+	/**
+	 * Generate all legal moves with given rack and keep the best of them in collector.<br>
+	 * Move objects are created only for moves accepted by collector.
+	 * @param rack tiles on rack
+	 * @param collector collector of best moves
+	 */
+	public void generateMoves(List<Tile> rack, MoveCollector collector) {
+		generateMoves(rack, collector, 0, 1);
+	}
+
+	/**
+	 * Generate legal moves on part of lines and keep the best of them in collector.<br>
+	 * Rows are lines 0 to size - 1, columns are lines size to 2 * size - 1. Lines first,
+	 * first + step, first + 2 * step... are searched, so generators with different first
+	 * line can share board.
+	 * @param rack tiles on rack
+	 * @param collector collector of best moves
+	 * @param first first line
+	 * @param step distance between searched lines
+	 */
+	public void generateMoves(List<Tile> rack, MoveCollector collector, int first, int step) {
+		generateMoves(rack, collector, first, step, null);
+	}
+
+	/**
+	 * Generate legal moves on part of lines for bot search.<br>
+	 * Generation stops before next line when search should stop. Searched lines, number of
+	 * found moves and better moves are reported to search.
+	 * @param rack tiles on rack
+	 * @param collector collector of best moves
+	 * @param first first line
+	 * @param step distance between searched lines
+	 * @param search bot search or null
+	 */
+	public void generateMoves(List<Tile> rack, MoveCollector collector, int first, int step, BotSearch search) {
+		this.collector = collector;
+		this.search = search;
+		generate(rack, first, step);
+		this.collector = null;
+		this.search = null;
+	}
+
+	/**
+	 * Generate moves on every row and column.
+	 * @param rack tiles on rack
+	 */
+	private void generate(List<Tile> rack) {
+		generate(rack, 0, 1);
+	}
+
+	/**
+	 * Generate moves on part of lines.
+	 * @param rack tiles on rack
+	 * @param first first line
+	 * @param step distance between searched lines
+	 */
+	private void generate(List<Tile> rack, int first, int step) {
+		init(rack);
+		bestPoints = -1;
+		for(int index=first; index<2*size; index+=step) {
+			if(search != null && search.shouldStop()) {
+				break;
+			}
+			horizontally = (index < size);
+			line = horizontally ? index : index - size;
+			lineMovesCount = 0;
+			anchors = game.getAnchorMask(line, horizontally);
+			if(anchors != 0) {
+				prepareLine();
+				generateLine();
+			}
+			if(search != null) {
+				search.lineDone(lineMovesCount);
+			}
+		}
+	}
+
+	/**
+	 * Set values of rack leaves. When set, moves are scored in collector by points
+	 * and value of tiles left on rack (in tenths of point).
+	 * @param leaves leave table or null to score moves by points
+	 */
+	public void setLeaveTable(LeaveTable leaves) {
+		this.leaves = leaves;
+	}
+
+	/**
+	 * Prepare arrays for board size and count rack tiles.
+	 * @param rack tiles on rack
+	 */
+	private void init(List<Tile> rack) {
+		this.rack = rack;
+		if(letters == null || size != game.getBoardSize()) {
+			size = game.getBoardSize();
+			letters = new char[size];
+			points = new int[size];
+			crossMasks = new int[size];
+			crossScores = new int[size];
+			letterMultipliers = new int[size];
+			wordMultipliers = new int[size];
+			leftLetters = new char[size];
+			leftBlanks = new boolean[size];
+			placedLetters = new char[size];
+			placedBlanks = new boolean[size];
+		}
+
+		for(int i=0; i<=BLANK; i++) {
+			rackCounts[i] = 0;
+		}
+		for(Tile tile : rack) {
+			int index = tile.isStar() ? BLANK : tile.getLetter() - 'A';
+			rackCounts[index]++;
+			rackPoints[index] = tile.getPoints();
+		}
+		leaveKey = LeaveTable.getRackKey(rack);
+		placedCount = 0;
+		updateRackMask();
+	}
+
+	/**
+	 * Read current line from board with its cross-checks.
+	 */
+	private void prepareLine() {
+		Board board = game.getBoard();
+		CrossChecks crossChecks = game.getCrossChecks();
+		occupied = board.getOccupiedMask(line, horizontally);
+
+		for(int pos=0; pos<size; pos++) {
+			int row = horizontally ? line : pos;
+			int column = horizontally ? pos : line;
+
+			if(!board.isEmpty(row, column)) {
+				letters[pos] = board.getLetter(row, column);
+				points[pos] = board.getPoints(row, column);
+				continue;
+			}
+
+			letters[pos] = 0;
+			letterMultipliers[pos] = board.getLetterMultiplier(row, column);
+			wordMultipliers[pos] = board.getWordMultiplier(row, column);
+			crossMasks[pos] = crossChecks.getMask(row, column, horizontally);
+			crossScores[pos] = crossChecks.getScore(row, column, horizontally);
+		}
+	}
+
+	/**
+	 * Generate moves on current line from every anchor.
+	 */
+	private void generateLine() {
+		for(long mask=anchors; mask!=0; mask&=mask-1) {
+			anchor = Long.numberOfTrailingZeros(mask);
+			cursor.reset();
+
+			if(anchor > 0 && letters[anchor - 1] != 0) {
+				/* Left part is made of board tiles */
+				int start = anchor - 1;
+				while(start > 0 && letters[start - 1] != 0) {
+					start--;
+				}
+				boolean exists = true;
+				for(int pos=start; pos<anchor && exists; pos++) {
+					exists = cursor.advance(letters[pos]);
+				}
+				if(exists) {
+					extendRight(anchor, start);
+				}
+			} else {
+				/* Left part is made of rack tiles on empty squares which aren't anchors */
+				long blocked = (occupied | anchors) & ((1L << anchor) - 1);
+				int limit = (blocked == 0) ? anchor : anchor - (Long.SIZE - Long.numberOfLeadingZeros(blocked));
+				leftPart(0, limit);
+			}
+		}
+	}
+
+	/**
+	 * Build left part of word from rack tiles and extend every part to the right.
+	 * @param length current left part length
+	 * @param limit max left part length
+	 */
+	private void leftPart(int length, int limit) {
+		for(int i=0; i<length; i++) {
+			placedLetters[anchor - length + i] = leftLetters[i];
+			placedBlanks[anchor - length + i] = leftBlanks[i];
+		}
+		extendRight(anchor, anchor - length);
+		for(int i=0; i<length; i++) {
+			placedLetters[anchor - length + i] = 0;
+		}
+
+		if(length == limit) {
+			return;
+		}
+
+		for(int mask=cursor.getChildrenMask() & rackMask; mask!=0; mask&=mask-1) {
+			int letter = Integer.numberOfTrailingZeros(mask);
+			cursor.advance((char)('A' + letter));
+			leftLetters[length] = (char)('A' + letter);
+			/* Try tile with letter and blank used as letter */
+			for(int k=0; k<2; k++) {
+				int index = (k == 0) ? letter : BLANK;
+				if(rackCounts[index] == 0) {
+					continue;
+				}
+				takeTile(index);
+				leftBlanks[length] = (index == BLANK);
+				leftPart(length + 1, limit);
+				returnTile(index);
+			}
+			cursor.back();
+		}
+	}
+
+	/**
+	 * Extend word to the right through board tiles and rack tiles.
+	 * @param pos position of next square
+	 * @param start position of word beginning
+	 */
+	private void extendRight(int pos, int start) {
+		if(pos < size && letters[pos] != 0) {
+			if(cursor.advance(letters[pos])) {
+				extendRight(pos + 1, start);
+				cursor.back();
+			}
+			return;
+		}
+
+		if(pos > anchor && pos - start >= 2 && cursor.isTerminal()) {
+			recordMove(start, pos);
+		}
+		if(pos == size) {
+			return;
+		}
+
+		for(int mask=cursor.getChildrenMask() & crossMasks[pos] & rackMask; mask!=0; mask&=mask-1) {
+			int letter = Integer.numberOfTrailingZeros(mask);
+			cursor.advance((char)('A' + letter));
+			placedLetters[pos] = (char)('A' + letter);
+			/* Try tile with letter and blank used as letter */
+			for(int k=0; k<2; k++) {
+				int index = (k == 0) ? letter : BLANK;
+				if(rackCounts[index] == 0) {
+					continue;
+				}
+				takeTile(index);
+				placedBlanks[pos] = (index == BLANK);
+				extendRight(pos + 1, start);
+				returnTile(index);
+			}
+			placedLetters[pos] = 0;
+			cursor.back();
+		}
+	}
+
+	/**
+	 * Take tile from rack to place it.
+	 * @param index letter index or BLANK
+	 */
+	private void takeTile(int index) {
+		if(--rackCounts[index] == 0) {
+			updateRackMask();
+		}
+		leaveKey -= LeaveTable.getTileKey(index);
+		placedCount++;
+	}
+
+	/**
+	 * Put placed tile back on rack.
+	 * @param index letter index or BLANK
+	 */
+	private void returnTile(int index) {
+		placedCount--;
+		leaveKey += LeaveTable.getTileKey(index);
+		if(rackCounts[index]++ == 0) {
+			updateRackMask();
+		}
+	}
+
+	/**
+	 * Compute mask of letters which can be placed from rack.
+	 */
+	private void updateRackMask() {
+		if(rackCounts[BLANK] > 0) {
+			rackMask = PackedWordsGraph.LETTERS_MASK;
+			return;
+		}
+		rackMask = 0;
+		for(int letter=0; letter<BLANK; letter++) {
+			if(rackCounts[letter] > 0) {
+				rackMask |= 1 << letter;
+			}
+		}
+	}
+
+	/**
+	 * Count points of word on current line and add new move.
+	 * @param start position of word beginning
+	 * @param end position after word end
+	 */
+	private void recordMove(int start, int end) {
+		/* Move with one tile is generated once, in row if it makes word in row */
+		if(!horizontally && placedCount == 1) {
+			for(int pos=start; pos<end; pos++) {
+				if(placedLetters[pos] != 0 && crossScores[pos] != CrossChecks.NO_CROSS_WORD) {
+					return;
+				}
+			}
+		}
+
+		int score = 0;
+		int multi = 1;
+		int crossWordsScore = 0;
+		for(int pos=start; pos<end; pos++) {
+			if(placedLetters[pos] == 0) {
+				score += points[pos];
+				continue;
+			}
+			int letterPoints = placedBlanks[pos] ? rackPoints[BLANK] : rackPoints[placedLetters[pos] - 'A'];
+			int letterMulti = letterMultipliers[pos];
+			int wordMulti = wordMultipliers[pos];
+			score += letterPoints * letterMulti;
+			multi *= wordMulti;
+			if(crossScores[pos] != CrossChecks.NO_CROSS_WORD) {
+				crossWordsScore += (crossScores[pos] + letterPoints * letterMulti) * wordMulti;
+			}
+		}
+
+		int bingo = (placedCount == DataManager.RACK_SIZE) ? game.getBingoBonus() : 0;
+		int movePoints = score * multi + crossWordsScore + bingo;
+		lineMovesCount++;
+
+		if(collector == null) {
+			Move move = createMove(start, end);
+			move.setPoints(movePoints);
+			moves.add(move);
+			return;
+		}
+		int equity = (leaves == null) ? movePoints : movePoints * LeaveTable.SCALE + leaves.getValue(leaveKey);
+		if(!collector.accepts(movePoints, equity)) {
+			return;
+		}
+		long hash = getPlacementHash(start, end);
+		Move move = createMove(start, end);
+		move.setPoints(movePoints);
+		if(collector.add(hash, equity, move) && search != null && movePoints > bestPoints) {
+			bestPoints = movePoints;
+			search.offer(move);
+		}
+	}
+
+	/**
+	 * Count Zobrist key of tiles placed on current line, equal to change of board hash after move.
+	 * @param start position of word beginning
+	 * @param end position after word end
+	 * @return placement hash
+	 */
+	private long getPlacementHash(int start, int end) {
+		Zobrist zobrist = game.getZobrist();
+		long hash = 0;
+		for(int pos=start; pos<end; pos++) {
+			if(placedLetters[pos] == 0) {
+				continue;
+			}
+			hash ^= horizontally ? zobrist.getTileKey(line, pos, placedLetters[pos], placedBlanks[pos])
+					: zobrist.getTileKey(pos, line, placedLetters[pos], placedBlanks[pos]);
+		}
+		return hash;
+	}
+
+	/**
+	 * Create move with copies of rack tiles placed on current line.
+	 * @param start position of word beginning
+	 * @param end position after word end
+	 * @return move
+	 */
+	private Move createMove(int start, int end) {
+		List<Tile> tiles = new ArrayList<>(placedCount);
+		boolean[] used = new boolean[rack.size()];
+
+		for(int pos=start; pos<end; pos++) {
+			if(placedLetters[pos] == 0) {
+				continue;
+			}
+			for(int i=0; i<rack.size(); i++) {
+				Tile rackTile = rack.get(i);
+				boolean matches = placedBlanks[pos] ? rackTile.isStar()
+						: (!rackTile.isStar() && rackTile.getLetter() == placedLetters[pos]);
+				if(!used[i] && matches) {
+					used[i] = true;
+					Tile tile = new Tile(rackTile);
+					tile.setLetter(placedLetters[pos]);
+					tile.setRow(horizontally ? line : pos);
+					tile.setColumn(horizontally ? pos : line);
+					tile.setCopyOf(rackTile);
+					tiles.add(tile);
+					break;
+				}
+			}
+		}
+
+		return new Move(tiles);
+	}
+
+}
@@ -1,13 +1,16 @@
 package main.game;
 
-import javafx.application.Platform;
-import main.controller.NormalGameController;
-
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Class that represents single game. <br>
+ * Game doesn't depend on user interface, events are reported to game listener.
+ * <br>
+ * All random choices of game (tile draws, bot simulations) come from one generator created
+ * from game seed, so game with the same seed and players can be replayed.
  *
  * @author Paweł Okrutny
  * @version 1.0 7.11.2017
@@ -32,36 +35,61 @@ public class NormalGame extends Game {
 	private Player currentPlayer;
 
 	/** Current game state */
-	private GameState currentGameState;
+	private volatile GameState currentGameState;
+
+	/** Search of current bot or null */
+	private volatile BotSearch botSearch;
 
-	/** Game controller responsible for interacting with user */
-	private NormalGameController gameController;
+	/** Listener of game events, eg. controller responsible for interacting with user */
+	private GameListener listener;
 
 	/** Current pass count in row */
 	private int passCount = 0;
 
+	/** Seed of game random generator */
+	private final long seed;
+
+	/** Game random generator */
+	private final SplittableRandom random;
+
 	// **************************************************
 	// Constructors
 	// **************************************************
 
 	/**
-	 * Parameterized constructor. Creating game instance with given players and game controller.
+	 * Parameterized constructor. Creating game instance with given players and game listener.
+	 * Game seed is random.
 	 * @param players players
-	 * @param gameController game controller
+	 * @param listener listener of game events
 	 * @throws IOException thrown when file loading fails
 	 */
-	public NormalGame(List<Player> players, NormalGameController gameController) throws IOException {
+	public NormalGame(List<Player> players, GameListener listener) throws IOException {
+		this(players, listener, new SplittableRandom().nextLong());
+	}
+
+	/**
+	 * Parameterized constructor. Creating game instance with given players, game listener
+	 * and seed of random generator.
+	 * @param players players
+	 * @param listener listener of game events
+	 * @param seed game seed
+	 * @throws IOException thrown when file loading fails
+	 */
+	public NormalGame(List<Player> players, GameListener listener, long seed) throws IOException {
 		super();
-		this.gameController = gameController;
+		this.listener = listener;
+		this.seed = seed;
 
 		this.players = players;
 		maxPassCount = players.size() * DataManager.MAX_PASSES;
 
-		/* Init tile bag for every player and game instance for bots */
+		/* Init tile bag for every player and game instance for bots, generators are split in players order */
+		random = new SplittableRandom(seed);
 		for (Player player : players) {
-			player.setTileBag(new TileBag(DataManager.getGameVersion()));
+			player.setTileBag(new TileBag(DataManager.getGameVersion(), random.split()));
 			if(player instanceof PlayerBot) {
 				((PlayerBot) player).setGame(this);
+				((PlayerBot) player).setRandom(random.split());
 			}
 		}
 		/* Take first player as current player */
@@ -87,51 +115,37 @@ public class NormalGame extends Game {
 		currentPlayer.refillRack();
 		if(currentPlayer.getRack().isEmpty()) {
 			currentGameState = GameState.ENDED;
-			Platform.runLater(()->{
-				gameController.endGame();
-			});
+			listener.onGameEnded();
 		}
 
-		/* Refresh points table in game controller */
-		Platform.runLater(()->{
-			gameController.showPointsTable();
-			gameController.setCurrentPlayer(currentPlayer);
-		});
-
+		/* Refresh points table and current player */
+		listener.onTurnStarted(currentPlayer);
 
 		switch (currentGameState) {
 			case ENDED:
 				break;
 			case PLAYER_TURN:
-				/* If current player is human player just update UI elements */
-				Platform.runLater(()->{
-					gameController.showCheckMoveFeedback();
-					gameController.setRackHBox(currentPlayer);
-					gameController.enableUI();
-				});
-
-				/* Now wait for user play in controller*/
+				/* If current player is human player just notify listener */
+				listener.onHumanTurn(currentPlayer);
+
+				/* Now wait for user play */
 				break;
 			case BOT_TURN:
-				/* Bot turn. Disable UI elements and run progress bar */
-				Platform.runLater(()->{
-					gameController.disableUI();
-					gameController.runProgressBar(DataManager.getBotTime());
-				});
+				/* Bot turn */
+				botSearch = new BotSearch(DataManager.getBotTime() * 1000L);
+				listener.onBotTurn(currentPlayer);
 
-				Move move = ((PlayerBot)currentPlayer).getMove();
+				Move move = ((PlayerBot)currentPlayer).getMove(botSearch);
 				if(currentGameState == GameState.ENDED) {
 					break;
 				}
-				String nick = currentPlayer.getNick();
 				if(move == null) {
-					logPass(nick);
+					listener.onBotPass(currentPlayer);
 					passMove();
 					break;
 				}
 				int points = checkMove(move);
-				logMove(nick, points);
-				commitMoveInGameController(move);
+				listener.onBotMove(currentPlayer, move, points);
 
 				makeMove(move);
 				break;
@@ -149,10 +163,8 @@ public class NormalGame extends Game {
 			players.forEach(player -> {
 				player.getRack().forEach(tile -> {player.setPoints(player.getPoints()-tile.getPoints());});
 			});
-			/* Show conclusion table in game controller */
-			Platform.runLater(()->{
-				gameController.endGame();
-			});
+			currentGameState = GameState.ENDED;
+			listener.onGameEnded();
 		} else {
 			nextPlayer();
 			continueGame();
@@ -196,59 +208,84 @@ public class NormalGame extends Game {
 	public void commitMove(Move move) {
 		/* We assume move is correct at this moment */
 		currentPlayer.addPoints(checkMove(move));
+		placeTiles(move.getTiles());
 		for(Tile tile : move.getTiles()) {
-			board[tile.getRow()][tile.getColumn()] = tile;
 			currentPlayer.getRack().remove(tile);
 		}
 		firstMoveDone = true;
 	}
 
 	/**
-	 * Log in game controller that current player passed move.
-	 * @param nick nick of player
+	 * Get current player.
+	 * @return current player
 	 */
-	private void logPass(String nick) {
-		Platform.runLater(()->{
-			gameController.logMove(nick + " has passed move");
+	public Player getCurrentPlayer() {
+		return currentPlayer;
+	}
 
-		});
+	/**
+	 * Get players.
+	 * @return players
+	 */
+	public List<Player> getPlayers() {
+		return players;
 	}
 
 	/**
-	 * Log in game controller that current player made a move.
-	 * @param nick nick of player
-	 * @param points score for move
+	 * Get tiles which player can't see as bag: copy of bag of next player with its rack
+	 * tiles put back.
+	 * @param player player
+	 * @return new bag with unseen tiles
 	 */
-	private void logMove(String nick, int points) {
-		Platform.runLater(()->{
-			gameController.logMove(nick + " played for " + points + " points");
-		});
+	public TileBag getOpponentBag(Player player) {
+		Player opponent = players.get((players.indexOf(player) + 1) % players.size());
+		TileBag bag = opponent.getTileBag().copy(random.split());
+		opponent.getRack().forEach(bag::addTile);
+		return bag;
 	}
 
 	/**
-	 * Create tiles in game controller and place them on board. Used after bot finds a move.
-	 * @param move move to commit
+	 * Get rack of next player if game has two players and both bags are empty.
+	 * @param player player to move
+	 * @return opponent rack or null
 	 */
-	public void commitMoveInGameController(Move move) {
-		Platform.runLater(()->{
-			gameController.commitBotMove(move);
-		});
+	@Override
+	public List<Tile> getEndgameRack(Player player) {
+		if(players.size() != 2 || player.getTileBag().getRemainingTilesCount() > 0) {
+			return null;
+		}
+		Player opponent = players.get((players.indexOf(player) + 1) % players.size());
+		if(opponent.getTileBag().getRemainingTilesCount() > 0) {
+			return null;
+		}
+		return new ArrayList<>(opponent.getRack());
 	}
 
 	/**
-	 * Get current player.
-	 * @return current player
+	 * Get Zobrist hash of current position: board, racks of all players and current player.
+	 * @return position hash
 	 */
-	public Player getCurrentPlayer() {
-		return currentPlayer;
+	public long getPositionHash() {
+		List<List<Tile>> racks = new ArrayList<>(players.size());
+		players.forEach(player -> racks.add(player.getRack()));
+		return getPositionHash(racks, players.indexOf(currentPlayer));
 	}
 
 	/**
-	 * Get players.
-	 * @return players
+	 * Get number of passes in a row before current move.
+	 * @return pass count
 	 */
-	public List<Player> getPlayers() {
-		return players;
+	@Override
+	public int getPassCount() {
+		return passCount;
+	}
+
+	/**
+	 * Get game state.
+	 * @return the game state
+	 */
+	public GameState getCurrentGameState() {
+		return currentGameState;
 	}
 
 	/**
@@ -257,6 +294,27 @@ public class NormalGame extends Game {
 	 */
 	public void setCurrentGameState(GameState currentGameState) {
 		this.currentGameState = currentGameState;
+		/* Stop bot when game is ended from outside */
+		BotSearch search = botSearch;
+		if(currentGameState == GameState.ENDED && search != null) {
+			search.cancel();
+		}
+	}
+
+	/**
+	 * Get search of current or last bot.
+	 * @return bot search or null
+	 */
+	public BotSearch getBotSearch() {
+		return botSearch;
+	}
+
+	/**
+	 * Get seed of game random generator.
+	 * @return seed
+	 */
+	public long getSeed() {
+		return seed;
 	}
 
 }
@@ -0,0 +1,436 @@
+package main.game;
+
+import java.nio.IntBuffer;
+import java.util.*;
+
+/**
+ * Class that represents dictionary graph packed into flat primitive arrays.<br>
+ * Every node is stored as mask of children letters (26 bits) with last letter flag
+ * and index of its first child. Children of one node are stored one after another
+ * in alphabetical order, so child index is first child index plus number of
+ * lower letters in mask. <br>
+ * Must be extended by classes that build the arrays.
+ */
+public abstract class PackedWordsGraph implements WordsDictionary {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Letters count in alphabet */
+	public static final int LETTERS_COUNT = 26;
+
+	/** Mask with all letters bits */
+	public static final int LETTERS_MASK = (1 << LETTERS_COUNT) - 1;
+
+	/** Highest bit in node mask indicating last letter of word */
+	protected static final int LAST_LETTER_FLAG = 1 << 31;
+
+	/** Mask with all symbols bits (letters and separator used by GADDAG) */
+	protected static final int SYMBOLS_MASK = (1 << (LETTERS_COUNT + 1)) - 1;
+
+	/** Root node index */
+	public static final int ROOT = 0;
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Children mask and last letter flag of every node. Array or memory mapped file */
+	protected IntBuffer masks;
+
+	/** First child index of every node. Array or memory mapped file */
+	protected IntBuffer children;
+
+	/** Number of used nodes in arrays */
+	protected int nodesCount;
+
+	/** Number of words in dictionary */
+	protected int wordsCount;
+
+
+	/**
+	 * Private class that represents state of graph during build.<br>
+	 * Has children in alphabetical order and isLastLetter indicator.
+	 * Registered states are equal if they have same children and indicator.
+	 */
+	private static class State {
+		private int mask;
+		private State[] next = new State[1];
+		private int size;
+		private boolean isLastLetter = false;
+		private int id = -1;
+		private int firstChild;
+		private boolean visited = false;
+
+		/**
+		 * Add child with letter greater than letters of all other children.
+		 * @param letter symbol index (0 for 'A')
+		 * @param child child state
+		 */
+		private void addChild(int letter, State child) {
+			if(size == next.length) {
+				next = Arrays.copyOf(next, size * 2);
+			}
+			next[size++] = child;
+			mask |= 1 << letter;
+		}
+
+		/**
+		 * Get mask of children letters with last letter flag.
+		 * @return node mask
+		 */
+		private int getMask() {
+			return isLastLetter ? (mask | LAST_LETTER_FLAG) : mask;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = getMask();
+			for(int i=0; i<size; i++) {
+				hash = hash * 31 + next[i].id;
+			}
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof State)) {
+				return false;
+			}
+			State other = (State) o;
+			if(other.getMask() != getMask()) {
+				return false;
+			}
+			for(int i=0; i<size; i++) {
+				if(next[i] != other.next[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Private class that builds minimized graph from sequences added in alphabetical order.<br>
+	 * Only states of last added sequence are not minimized. When next one is added,
+	 * states of previous sequence after common prefix are replaced by equal registered
+	 * states or become registered.
+	 */
+	private static class Builder {
+		private final State root = new State();
+		private final Map<State, State> register = new HashMap<>();
+		private final List<State> path = new ArrayList<>();
+		private String previousWord = "";
+		private int wordsCount;
+
+		/**
+		 * Add sequence. Sequences must be added in alphabetical order.
+		 * @param word sequence of symbols ('A' to 'Z' and separator)
+		 */
+		private void addWord(String word) {
+			if(word.equals(previousWord)) {
+				return;
+			}
+			int common = 0;
+			int max = Math.min(word.length(), previousWord.length());
+			while(common < max && word.charAt(common) == previousWord.charAt(common)) {
+				common++;
+			}
+			minimize(common);
+
+			State state = (common == 0) ? root : path.get(common - 1);
+			for(int i=common; i<word.length(); i++) {
+				State next = new State();
+				state.addChild(word.charAt(i) - 'A', next);
+				path.add(next);
+				state = next;
+			}
+			state.isLastLetter = true;
+			previousWord = word;
+			wordsCount++;
+		}
+
+		/**
+		 * Minimize states of last sequence deeper than given depth.
+		 * @param depth depth to keep
+		 */
+		private void minimize(int depth) {
+			for(int i=path.size()-1; i>=depth; i--) {
+				State state = path.remove(i);
+				State parent = (i == 0) ? root : path.get(i - 1);
+				State registered = register.get(state);
+				if(registered != null) {
+					parent.next[parent.size - 1] = registered;
+				} else {
+					state.id = register.size();
+					register.put(state, state);
+				}
+			}
+		}
+
+		/**
+		 * Minimize all remaining states.
+		 * @return root state
+		 */
+		private State finish() {
+			minimize(0);
+			return root;
+		}
+	}
+
+
+	/**
+	 * Class that represents cursor walking graph from root.<br>
+	 * Keeps nodes of current path on stack.
+	 */
+	protected class GraphCursor implements DictionaryCursor {
+		private int[] nodes = new int[16];
+		private int depth = 0;
+
+		@Override
+		public void reset() {
+			depth = 0;
+		}
+
+		@Override
+		public boolean advance(char letter) {
+			int index = letter - 'A';
+			if(index < 0 || index >= LETTERS_COUNT) {
+				return false;
+			}
+			int next = getNextNode(nodes[depth], depth, index);
+			if(next == -1) {
+				return false;
+			}
+			if(depth + 1 == nodes.length) {
+				nodes = Arrays.copyOf(nodes, nodes.length * 2);
+			}
+			nodes[++depth] = next;
+			return true;
+		}
+
+		@Override
+		public void back() {
+			if(depth > 0) {
+				depth--;
+			}
+		}
+
+		@Override
+		public boolean isTerminal() {
+			return depth > 0 && isLastLetter(nodes[depth]);
+		}
+
+		@Override
+		public int getChildrenMask() {
+			return getLettersMask(nodes[depth], depth);
+		}
+
+		@Override
+		public int getDepth() {
+			return depth;
+		}
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Returns words number in dictionary.
+	 * @return words number
+	 */
+	@Override
+	public int getWordsCount() {
+		return wordsCount;
+	}
+
+	/**
+	 * Returns number of nodes stored in arrays.
+	 * @return nodes number
+	 */
+	public int getNodesCount() {
+		return nodesCount;
+	}
+
+	/**
+	 * Check that given word exists in graph
+	 * @param word to search
+	 * @return true if word is valid
+	 */
+	@Override
+	public boolean searchWord(String word) {
+		int node = findNode(word);
+		return node != -1 && (masks.get(node) & LAST_LETTER_FLAG) != 0;
+	}
+
+	/**
+	 * Check that given path, starting from root, exist
+	 * @param word path
+	 * @return true if path exists
+	 */
+	@Override
+	public boolean existsPath(String word) {
+		return findNode(word) != -1;
+	}
+
+	/**
+	 * Walk from root through letters of given word.
+	 * @param word path
+	 * @return index of last node or -1 if path not exists
+	 */
+	protected int findNode(String word) {
+		int node = ROOT;
+		for(int i=0; i<word.length() && node != -1; i++) {
+			int letter = word.charAt(i) - 'A';
+			if(letter < 0 || letter >= LETTERS_COUNT) {
+				return -1;
+			}
+			node = getChild(node, letter);
+		}
+		return node;
+	}
+
+	/**
+	 * Get child of node with given letter.
+	 * @param node node index
+	 * @param letter letter index (0 for 'A')
+	 * @return child index or -1 if not exists
+	 */
+	public int getChild(int node, int letter) {
+		int mask = masks.get(node);
+		int bit = 1 << letter;
+		if((mask & bit) == 0) {
+			return -1;
+		}
+		return children.get(node) + Integer.bitCount(mask & (bit - 1));
+	}
+
+	/**
+	 * Create new cursor at the beginning of word.
+	 * @return cursor
+	 */
+	@Override
+	public DictionaryCursor getCursor() {
+		return new GraphCursor();
+	}
+
+	/**
+	 * Get next node of cursor path. Used by cursor, can be changed for graphs
+	 * storing words not in order.
+	 * @param node current node
+	 * @param depth length of current path
+	 * @param letter letter index (0 for 'A')
+	 * @return next node or -1 if not exists
+	 */
+	protected int getNextNode(int node, int depth, int letter) {
+		return getChild(node, letter);
+	}
+
+	/**
+	 * Get mask of letters that can follow cursor path. Used by cursor, can be changed
+	 * for graphs storing words not in order.
+	 * @param node current node
+	 * @param depth length of current path
+	 * @return letters mask
+	 */
+	protected int getLettersMask(int node, int depth) {
+		return masks.get(node) & LETTERS_MASK;
+	}
+
+	/**
+	 * Check that path to node is a word.
+	 * @param node node index
+	 * @return true if node ends a word
+	 */
+	public boolean isLastLetter(int node) {
+		return (masks.get(node) & LAST_LETTER_FLAG) != 0;
+	}
+
+	/**
+	 * Get mask of symbols of node's children. Bit 0 is 'A'.
+	 * @param node node index
+	 * @return children mask
+	 */
+	public int getChildrenMask(int node) {
+		return masks.get(node) & SYMBOLS_MASK;
+	}
+
+	/**
+	 * Build minimized graph from given sequences and pack it into arrays.
+	 * @param sorted sequences of symbols in alphabetical order
+	 * @return number of distinct sequences
+	 */
+	protected int buildMinimized(String[] sorted) {
+		Builder builder = new Builder();
+		for(String word : sorted) {
+			builder.addWord(word);
+		}
+		pack(builder.finish());
+		return builder.wordsCount;
+	}
+
+	/**
+	 * Pack graph of states into arrays.<br>
+	 * Every state gets one block with records of its children, so records of shared
+	 * states are repeated in every parent's block, but their children blocks are not.
+	 * @param root root state
+	 */
+	private void pack(State root) {
+		/* Give every state index of its children block in breadth-first order */
+		List<State> states = new ArrayList<>();
+		Deque<State> queue = new ArrayDeque<>();
+		int offset = 1;
+		root.visited = true;
+		queue.add(root);
+		while(!queue.isEmpty()) {
+			State state = queue.poll();
+			states.add(state);
+			state.firstChild = (state.size == 0) ? 0 : offset;
+			offset += state.size;
+			for(int i=0; i<state.size; i++) {
+				State child = state.next[i];
+				if(!child.visited) {
+					child.visited = true;
+					queue.add(child);
+				}
+			}
+		}
+
+		/* Fill records */
+		nodesCount = offset;
+		masks = IntBuffer.allocate(nodesCount);
+		children = IntBuffer.allocate(nodesCount);
+		masks.put(ROOT, root.getMask());
+		children.put(ROOT, root.firstChild);
+		for(State state : states) {
+			for(int i=0; i<state.size; i++) {
+				State child = state.next[i];
+				masks.put(state.firstChild + i, child.getMask());
+				children.put(state.firstChild + i, child.firstChild);
+			}
+		}
+	}
+
+	/**
+	 * Check that word contains only capital letters.
+	 * @param word word to check
+	 * @return true if proper
+	 */
+	protected static boolean isProperWord(String word) {
+		if(word.isEmpty()) {
+			return false;
+		}
+		for(int i=0; i<word.length(); i++) {
+			char letter = word.charAt(i);
+			if(letter < 'A' || letter > 'Z') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,229 @@
+package main.game;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Class that represent dictionary tree packed into flat primitive arrays.<br>
+ * Every word has its own path of nodes, so words can be added at any time.
+ */
+public class PackedWordsTree extends PackedWordsGraph {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Initial capacity of node arrays */
+	private static final int INITIAL_CAPACITY = 1024;
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Array with children mask and last letter flag of every node */
+	private int[] maskArray;
+
+	/** Array with first child index of every node */
+	private int[] childArray;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Constructor that create new tree with just root.
+	 */
+	public PackedWordsTree() {
+		maskArray = new int[INITIAL_CAPACITY];
+		childArray = new int[INITIAL_CAPACITY];
+		nodesCount = 1;
+		wrapArrays();
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Load dictionary from file.<br>
+	 * Empty tree is built at once from sorted words, so nodes are stored without gaps.
+	 * Otherwise words are added one by one.
+	 * @param filePath file path
+	 * @throws IOException thrown when loading fails
+	 */
+	@Override
+	public void loadWords(String filePath) throws IOException {
+
+		if(filePath == null) {
+			filePath = DataManager.DEFAULT_DICTIONARY_FILE;
+		}
+
+		Path path = Paths.get(filePath);
+		BufferedReader br = Files.newBufferedReader(path);
+		List<String> words = new ArrayList<>();
+		String line;
+
+		while ((line = br.readLine()) != null) {
+			line = line.toUpperCase();
+			if(isProperWord(line)) {
+				words.add(line);
+			}
+		}
+		br.close();
+
+		if(wordsCount == 0) {
+			build(words);
+		} else {
+			words.forEach(this::addWord);
+		}
+	}
+
+	/**
+	 * Add word to tree.<br>
+	 * When node gets new child its children are moved to the end of arrays.
+	 * @param word word to add
+	 * @return true if success
+	 */
+	@Override
+	public boolean addWord(String word) {
+		if(!isProperWord(word)) {
+			return false;
+		}
+		int node = ROOT;
+		for(int i=0; i<word.length(); i++) {
+			int letter = word.charAt(i) - 'A';
+			int child = getChild(node, letter);
+			if(child == -1) {
+				child = addChild(node, letter);
+			}
+			node = child;
+		}
+		if((maskArray[node] & LAST_LETTER_FLAG) == 0) {
+			maskArray[node] |= LAST_LETTER_FLAG;
+			wordsCount++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Add new child to node. Children of node are copied to the end of arrays
+	 * with new child inserted in alphabetical order.
+	 * @param node node index
+	 * @param letter letter index (0 for 'A')
+	 * @return new child index
+	 */
+	private int addChild(int node, int letter) {
+		int mask = maskArray[node] & LETTERS_MASK;
+		int bit = 1 << letter;
+		int oldChildren = Integer.bitCount(mask);
+		int position = Integer.bitCount(mask & (bit - 1));
+		int oldFirst = childArray[node];
+		int newFirst = allocate(oldChildren + 1);
+
+		for(int i=0; i<oldChildren; i++) {
+			int target = newFirst + ((i < position) ? i : i+1);
+			maskArray[target] = maskArray[oldFirst + i];
+			childArray[target] = childArray[oldFirst + i];
+		}
+		childArray[node] = newFirst;
+		maskArray[node] |= bit;
+		return newFirst + position;
+	}
+
+	/**
+	 * Reserve given number of empty nodes at the end of arrays.
+	 * @param count nodes to reserve
+	 * @return index of first reserved node
+	 */
+	private int allocate(int count) {
+		int first = nodesCount;
+		nodesCount += count;
+		if(nodesCount > maskArray.length) {
+			int capacity = Math.max(nodesCount, maskArray.length * 2);
+			maskArray = Arrays.copyOf(maskArray, capacity);
+			childArray = Arrays.copyOf(childArray, capacity);
+			wrapArrays();
+		}
+		for(int i=first; i<nodesCount; i++) {
+			maskArray[i] = 0;
+			childArray[i] = 0;
+		}
+		return first;
+	}
+
+	/**
+	 * Build tree from given words. Tree must be empty.
+	 * @param words proper words
+	 */
+	private void build(List<String> words) {
+		String[] sorted = words.toArray(new String[0]);
+		Arrays.sort(sorted);
+		fill(ROOT, sorted, 0, sorted.length, 0);
+		maskArray = Arrays.copyOf(maskArray, nodesCount);
+		childArray = Arrays.copyOf(childArray, nodesCount);
+		wrapArrays();
+	}
+
+	/**
+	 * Use current arrays as nodes buffers of graph.
+	 */
+	private void wrapArrays() {
+		masks = IntBuffer.wrap(maskArray);
+		children = IntBuffer.wrap(childArray);
+	}
+
+	/**
+	 * Fill node with words from sorted range sharing prefix of given length.
+	 * @param node node index
+	 * @param words sorted words
+	 * @param from first word index (inclusive)
+	 * @param to last word index (exclusive)
+	 * @param depth prefix length
+	 */
+	private void fill(int node, String[] words, int from, int to, int depth) {
+		/* Shortest word in range ends at this node. Skip it and its duplicates */
+		while(from < to && words[from].length() == depth) {
+			if((maskArray[node] & LAST_LETTER_FLAG) == 0) {
+				maskArray[node] |= LAST_LETTER_FLAG;
+				wordsCount++;
+			}
+			from++;
+		}
+		if(from == to) {
+			return;
+		}
+
+		/* Collect children letters and reserve them in one block */
+		int mask = 0;
+		for(int i=from; i<to; i++) {
+			mask |= 1 << (words[i].charAt(depth) - 'A');
+		}
+		int first = allocate(Integer.bitCount(mask));
+		maskArray[node] |= mask;
+		childArray[node] = first;
+
+		/* Fill every child with its range of words */
+		int child = first;
+		int start = from;
+		while(start < to) {
+			char letter = words[start].charAt(depth);
+			int end = start + 1;
+			while(end < to && words[end].charAt(depth) == letter) {
+				end++;
+			}
+			fill(child, words, start, end, depth + 1);
+			child++;
+			start = end;
+		}
+	}
+
+}
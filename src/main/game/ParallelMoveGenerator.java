@@ -0,0 +1,140 @@
+package main.game;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Class that generates legal moves on many threads.<br>
+ * Rows and columns of board are split between workers of ForkJoinPool. Every worker thread
+ * has its own MoveGenerator with its own line buffers and dictionary cursor and keeps
+ * its best moves in its own collector. Board and cross-checks are only read during search,
+ * collectors are merged after all workers are done.
+ * <br>
+ * Pools are shared by all generators with same parallelism.
+ */
+public class ParallelMoveGenerator {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Pools of worker threads by parallelism */
+	private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Game with board */
+	private final Game game;
+
+	/** Number of workers */
+	private final int parallelism;
+
+	/** Generator of every worker thread */
+	private final ThreadLocal<MoveGenerator> generators;
+
+	/** Values of rack leaves added to move scores or null */
+	private volatile LeaveTable leaves;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor.
+	 * @param game game with board and dictionary
+	 * @param parallelism number of workers, 1 to search on calling thread
+	 */
+	public ParallelMoveGenerator(Game game, int parallelism) {
+		this.game = game;
+		this.parallelism = Math.max(1, parallelism);
+		generators = ThreadLocal.withInitial(() -> new MoveGenerator(this.game));
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Generate all legal moves with given rack and keep the best of them in collector.
+	 * @param rack tiles on rack
+	 * @param collector collector of best moves
+	 */
+	public void generateMoves(List<Tile> rack, MoveCollector collector) {
+		generateMoves(rack, collector, null);
+	}
+
+	/**
+	 * Generate legal moves for bot search and keep the best of them in collector.<br>
+	 * Workers stop when search should stop, so collector may have only moves from searched lines.
+	 * @param rack tiles on rack
+	 * @param collector collector of best moves
+	 * @param search bot search or null
+	 */
+	public void generateMoves(List<Tile> rack, MoveCollector collector, BotSearch search) {
+		if(search != null) {
+			search.setLinesCount(2 * game.getBoardSize());
+		}
+		if(parallelism == 1) {
+			getGenerator().generateMoves(rack, collector, 0, 1, search);
+			return;
+		}
+
+		ForkJoinPool pool = getPool(parallelism);
+		List<MoveCollector> results = pool.submit(() -> IntStream.range(0, parallelism).parallel()
+				.mapToObj(worker -> {
+					MoveCollector workerCollector = new MoveCollector(collector.getCapacity(), collector.isKeepingLevels());
+					getGenerator().generateMoves(rack, workerCollector, worker, parallelism, search);
+					return workerCollector;
+				})
+				.collect(Collectors.toList())).join();
+
+		for(MoveCollector workerCollector : results) {
+			collector.addAll(workerCollector);
+		}
+	}
+
+	/**
+	 * Get generator of current thread with current leave table.
+	 * @return move generator
+	 */
+	private MoveGenerator getGenerator() {
+		MoveGenerator generator = generators.get();
+		generator.setLeaveTable(leaves);
+		return generator;
+	}
+
+	/**
+	 * Set values of rack leaves added to move scores.
+	 * @param leaves leave table or null to score moves by points
+	 */
+	public void setLeaveTable(LeaveTable leaves) {
+		this.leaves = leaves;
+	}
+
+	/**
+	 * Get shared pool of worker threads.
+	 * @param parallelism number of threads
+	 * @return pool
+	 */
+	static ForkJoinPool getPool(int parallelism) {
+		return POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+	}
+
+	/**
+	 * Get number of workers.
+	 * @return parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+}
@@ -1,7 +1,5 @@
 package main.game;
 
-import javafx.scene.paint.Color;
-
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,8 +20,8 @@ public abstract class Player {
 	/** Player's nick */
 	private String nick;
 
-	/** Player's color */
-	private Color color;
+	/** Player's color as web color string, eg. "0xff0000ff" */
+	private String color;
 
 	/** Player's current score */
 	private int points;
@@ -44,7 +42,7 @@ public abstract class Player {
 	 * @param nick player's nick
 	 * @param color player's color
 	 */
-	public Player(String nick, Color color) {
+	public Player(String nick, String color) {
 		this.nick = nick;
 		this.color = color;
 		rack = new ArrayList<Tile>();
@@ -115,7 +113,7 @@ public abstract class Player {
 	 * Get player's color.
 	 * @return color
 	 */
-	public Color getColor() {
+	public String getColor() {
 		return color;
 	}
 
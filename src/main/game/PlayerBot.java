@@ -1,7 +1,5 @@
 package main.game;
 
-import javafx.scene.paint.Color;
-
 import java.util.*;
 
 /**
@@ -17,11 +15,8 @@ public class PlayerBot extends Player {
 	// Constants
 	// **************************************************
 
-	/* Codes used by bot */
-	private final int UP = 1;
-	private final int DOWN = 2;
-	private final int LEFT = 3;
-	private final int RIGHT = 4;
+	/** Max number of best moves kept by bot */
+	public static final int KEPT_MOVES_COUNT = 128;
 
 
 	// **************************************************
@@ -34,6 +29,26 @@ public class PlayerBot extends Player {
 	/** Game instance needed by bot */
 	private Game game;
 
+	/** Generator of all legal moves */
+	private ParallelMoveGenerator generator;
+
+	/** Number of threads searching move */
+	private int parallelism = DataManager.getBotParallelism();
+
+	/** Way of choosing move */
+	private BotStrategy strategy = DataManager.getBotStrategy();
+
+	/** Simulation of candidate moves, used by SIMULATION strategy */
+	private Simulation simulation;
+
+	/** Endgame solver, created when needed */
+	private Endgame endgame;
+
+	/** Best moves found by generator and the best move of every points value */
+	private MoveCollector collector = new MoveCollector(KEPT_MOVES_COUNT, true);
+
+	/** Random generator of simulations */
+	private SplittableRandom random = new SplittableRandom();
 
 
 	// **************************************************
@@ -46,7 +61,7 @@ public class PlayerBot extends Player {
 	 * @param color bot's color
 	 * @param difficulty bot's difficulty
 	 */
-	public PlayerBot(String nick, Color color, int difficulty) {
+	public PlayerBot(String nick, String color, int difficulty) {
 		super(nick, color);
 		this.difficulty = difficulty;
 	}
@@ -57,167 +72,34 @@ public class PlayerBot extends Player {
 	// **************************************************
 
 	/**
-	 * Main method of bot to get valid move if ones exist or null
+	 * Main method of bot to get valid move if ones exist or null.<br>
+	 * Search time is limited by bot time from config.
 	 * @return Move instance or null
 	 */
 	public Move getMove() {
-		List<Move> allMoves = new ArrayList<Move>();
-		int size = game.getBoardSize();
-
-		Random rand = new Random();
-		StringBuilder word;
-		List<Tile> tilesFromRack;
-		int minSensiblePoints = 1000;
-		int maxPoints = 0;
-
-		int beginRow = 0;
-		int beginColumn = 0;
-
-		if(!game.isFirstMoveDone()) {
-			outer:
-			for(int j=0; j<size; j++) {
-				for (int i=0; i<size; i++ ) {
-					if(game.getBoardBonuses()[j][i] == BoardBonus.BEGIN) {
-						beginRow = j;
-						beginColumn = i;
-						break outer;
-					}
-				}
-			}
-		}
-
-
-		long start = System.currentTimeMillis();
-		long end;
-		long delta;
-		double seconds = 0.0d;
-
-		/* While bot has time he tries to start from new place and build word */
-		while (seconds <  DataManager.getBotTime() ) {
-
-			tilesFromRack = new ArrayList<>(getRack());
-			List<Tile> currentMoveTiles = new ArrayList<>();
-			word = new StringBuilder();
-			Collections.shuffle(tilesFromRack);
-
-			int j; //start row
-			int i; //start column
-
-			if(game.isFirstMoveDone()){
-				j = rand.nextInt(size);
-				i = rand.nextInt(size);
-				while( (game.getBoard()[j][i] == null && !game.hasNeighbour(j,i)) ) {
-					j = rand.nextInt(size);
-					i = rand.nextInt(size);
-				}
-				if(game.getBoard()[j][i] != null){
-					word.append(game.getBoard()[j][i].getLetter());
-				}
-			} else {
-				j = beginRow;
-				i = beginColumn;
-			}
-
-			/* randomly choose horizontal word or vertical*/
-			boolean horizontally = rand.nextBoolean();
-			boolean canPrependLetters = true;
-			boolean canAppendLetters = true;
-			boolean firstTilePlaced = false;
-			int startRow = j;
-			int endRow = j;
-			int startColumn = i;
-			int endColumn = i;
-
-
-			/* while tiles exist try to build word */
-			while (!tilesFromRack.isEmpty() && (canAppendLetters || canPrependLetters)) {
-
-				/* chose new tile from rack to insert*/
-				Tile chosenTile = tilesFromRack.get(0);
-				Tile newTile = new Tile(chosenTile);
-				if(newTile.isStar()) {
-					rollLetter(newTile);
-				}
-				newTile.setCopyOf(chosenTile);
-
-				if(!firstTilePlaced && game.getBoard()[j][i] == null) {
-					newTile.setColumn(i);
-					newTile.setRow(j);
-					word.append(newTile.getLetter());
-					firstTilePlaced = true;
-				} else {
-					/* go left if horizontally or up if not, should be able to prepend letters */
-					if (rand.nextBoolean() && canPrependLetters) {
-						/* if horizontal word go on the left*/
-						if (horizontally) {
-							if (startColumn <= 0) {
-								canPrependLetters = false;
-							} else {
-								startColumn = attemptToPlaceTile(startRow, startColumn, LEFT, size, newTile, word);
-							}
-						} else {
-							if (startRow <= 0) {
-								canPrependLetters = false;
-							} else {
-								startRow = attemptToPlaceTile(startRow, startColumn, UP, size, newTile, word);
-							}
-						}
-					} else if (canAppendLetters) {
-						/* go right or down */
-						if (horizontally) {
-							if (endColumn >= size - 1) {
-								canAppendLetters = false;
-							} else {
-								endColumn = attemptToPlaceTile(endRow, endColumn, RIGHT, size, newTile, word);
-							}
-						} else {
-							if (endRow >= size - 1) {
-								canAppendLetters = false;
-							} else {
-								endRow = attemptToPlaceTile(endRow, endColumn, DOWN, size, newTile, word);
-							}
-						}
-					}
-				}
-
-				if(newTile.getColumn() != -1 && newTile.getRow() != -1) {
-					tilesFromRack.remove(0);
-					currentMoveTiles.add(newTile);
-				} else {
-					continue;
-				}
-
-				if(!game.getTree().existsPath(word.toString()) && !canPrependLetters) {
-					break;
-				}
-
-				if(game.getTree().searchWord(word.toString())){
-					Move newMove = new Move(new ArrayList<Tile>(currentMoveTiles));
-
-					int points = game.checkMove(newMove);
-
-					if(points > maxPoints) {
-						maxPoints = points;
-						minSensiblePoints = (int)(((float)getDifficulty()/(float)DataManager.MAX_DIFFICULTY) * (float)maxPoints);
-						allMoves.add(newMove);
-					} else if(points > minSensiblePoints) {
-						allMoves.add(newMove);
-					} else if (points == Game.INVALID_OPTIONAL_WORD_ERROR) {
-						break;
-					}
-				}
-			}
-
-			end = System.currentTimeMillis();
-			delta = end - start;
-			seconds = delta / 1000.0;
-		}
+		return getMove(new BotSearch(DataManager.getBotTime() * 1000L));
+	}
 
-		if(allMoves.isEmpty()) {
-			return null;
+	/**
+	 * Get valid move found by given search or null.<br>
+	 * Legal moves are generated until all of them are checked or search is stopped and best
+	 * of them are kept, then move is chosen by difficulty. With LEAVE strategy moves are
+	 * ranked by points and value of tiles left on rack. With SIMULATION strategy bot with max
+	 * difficulty simulates best moves by points in rest of search time instead (in NormalGame
+	 * only, because opponent tiles must be known), other bots choose by difficulty.<br>
+	 * Bot with max difficulty solves endgame instead, when opponent rack is known and no tiles
+	 * can be drawn.<br>
+	 * Search is finished when method returns, also when search fails.
+	 * @param search bot search with deadline
+	 * @return Move instance or null
+	 */
+	public Move getMove(BotSearch search) {
+		Move bestMove;
+		try {
+			bestMove = searchMove(search);
+		} finally {
+			search.finish();
 		}
-
-		Move bestMove = getBestMove(allMoves);
 		if(bestMove == null) {
 			return null;
 		}
@@ -228,158 +110,104 @@ public class PlayerBot extends Player {
 	}
 
 	/**
-	 * Helper function to choose proper move from list of moves
-	 * @param moves list of moves
-	 * @return properly selected move
+	 * Search for move by strategy and difficulty. Rack isn't changed.
+	 * @param search bot search with deadline
+	 * @return Move instance or null
+	 */
+	private Move searchMove(BotSearch search) {
+		List<Tile> opponentRack = (difficulty == DataManager.MAX_DIFFICULTY) ? game.getEndgameRack(this) : null;
+		if(opponentRack != null) {
+			if(endgame == null) {
+				endgame = new Endgame(game);
+			}
+			return endgame.solve(getRack(), opponentRack, game.getPassCount(), search);
+		}
+
+		collector.clear();
+		generator.setLeaveTable(strategy == BotStrategy.LEAVE ? LeaveTable.getInstance() : null);
+		generator.generateMoves(getRack(), collector, search);
+		List<Move> moves = collector.getMoves();
+		List<Move> levels = collector.getLevelMoves();
+		collector.clear();
+
+		if(strategy == BotStrategy.SIMULATION && difficulty == DataManager.MAX_DIFFICULTY && game instanceof NormalGame) {
+			List<Move> candidates = moves.subList(0, Math.min(Simulation.DEFAULT_CANDIDATES_COUNT, moves.size()));
+			return simulation.selectMove(candidates, getRack(), ((NormalGame) game).getOpponentBag(this),
+					getTileBag(), random, search);
+		}
+		return getBestMove(moves, levels);
+	}
+
+	/**
+	 * Helper function to choose proper move by difficulty.<br>
+	 * Bot with max difficulty plays the best kept move. Other bots choose points value from
+	 * all distinct points values of found moves, the lower difficulty the lower points,
+	 * and play the best move (by ranking of strategy) with these points.
+	 * @param moves kept moves sorted by ranking of strategy (points, or points and leave) in descending order
+	 * @param levels the best move of every points value, sorted by points in descending order
+	 * @return properly selected move or null if list is empty
 	 */
-	private Move getBestMove(List<Move> moves) {
+	private Move getBestMove(List<Move> moves, List<Move> levels) {
 
-		if(moves == null) {
+		if(moves == null || moves.isEmpty()) {
 			return null;
 		}
+		if(getDifficulty() == DataManager.MAX_DIFFICULTY || levels.isEmpty()) {
+			return moves.get(0);
+		}
 
-		quickSortInDescendingOrder(moves,0,moves.size()-1);
-		removeDuplicates(moves);
-		int index = (int)((((float)DataManager.MAX_DIFFICULTY - (float)getDifficulty()) / (float)DataManager.MAX_DIFFICULTY) * moves.size());
-		if(index == moves.size()) {
+		int index = (int)((((float)DataManager.MAX_DIFFICULTY - (float)getDifficulty()) / (float)DataManager.MAX_DIFFICULTY) * levels.size());
+		if(index == levels.size()) {
 			index--;
 		}
 
-		return moves.get(index);
+		return levels.get(index);
 	}
 
 	/**
-	 * Removes duplicates from moves
-	 * @param moves lit of moves
+	 * Set game.
+	 * @param game game instance
 	 */
-	private void removeDuplicates(List<Move> moves) {
-		int lastPoints = moves.get(0).getPoints();
-		Iterator<Move> i = moves.iterator();
-		if(i.hasNext()) i.next();
-		while (i.hasNext()) {
-			Move currentMove = i.next();
-			int currentPoints = currentMove.getPoints();
-			if(lastPoints == currentPoints) {
-				i.remove();
-			} else {
-				lastPoints = currentPoints;
-			}
-		}
+	public void setGame(Game game) {
+		this.game = game;
+		generator = new ParallelMoveGenerator(game, parallelism);
+		simulation = new Simulation(game, parallelism, Simulation.DEFAULT_PLIES, Simulation.DEFAULT_ITERATIONS_LIMIT);
+		endgame = null;
 	}
 
-
 	/**
-	 * Randomize letter in Tile
-	 * @param tile
+	 * Set random generator of bot. Default is not seeded, game sets generator split from its own.
+	 * @param random random generator
 	 */
-	private void rollLetter(Tile tile) {
-		Random rand = new Random();
-		tile.setLetter((char)((int)'A'+rand.nextInt(26)));
+	public void setRandom(SplittableRandom random) {
+		this.random = random;
 	}
 
 	/**
-	 * Helper function for 'getMove()'.<br>
-	 * With given position and direction tries to place a Tile.
-	 * @param j row
-	 * @param i column
-	 * @param direction direction to move
-	 * @param size size of board
-	 * @param newTile Tile to place
-	 * @param word word
-	 * @return index where Tile was placed
+	 * Set number of threads searching move. Default is taken from config.
+	 * @param parallelism number of threads
 	 */
-	private int attemptToPlaceTile(int j, int i, int direction, int size, Tile newTile, StringBuilder word) {
-
-		boolean tilePlaced = false;
-
-		if(direction == LEFT) i--;
-		if(direction == RIGHT) i++;
-		if(direction == UP) j--;
-		if(direction == DOWN) j++;
-
-		while(i >= 0 && i < size && j < size && j >= 0) {
-			/* if we already placed a tile before and we encounter free place  then break loop*/
-			if(tilePlaced && game.getBoard()[j][i] == null) {
-				if(direction == LEFT) return ++i;
-				if(direction == RIGHT) return --i;
-				if(direction == UP) return ++j;
-				if(direction == DOWN) return --j;
-			}
-			/* found empty place to place tile*/
-			if(!tilePlaced && game.getBoard()[j][i] == null) {
-				newTile.setRow(j);
-				newTile.setColumn(i);
-				tilePlaced = true;
-				if(direction == LEFT || direction == UP){
-					word.insert(0, newTile.getLetter());
-				} else {
-					word.append(newTile.getLetter());
-				}
-			} else if (game.getBoard()[j][i] != null) {
-				if(direction == LEFT || direction == UP) {
-					word.insert(0,game.getBoard()[j][i].getLetter());
-				} else {
-					word.append(game.getBoard()[j][i].getLetter());
-				}
-
-			}
-			if(direction == LEFT) i--;
-			if(direction == RIGHT) i++;
-			if(direction == UP) j--;
-			if(direction == DOWN) j++;
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+		if(game != null) {
+			setGame(game);
 		}
-
-		if(direction == LEFT || direction == RIGHT) return i;
-		if(direction == UP || direction == DOWN) return j;
-
-		return -1;
-
 	}
 
 	/**
-	 * Sort move by points in descending order using quick sort algorithm.
-	 * @param moves list of moves
-	 * @param low low index
-	 * @param high high index
+	 * Set way of choosing move. Default is taken from config.
+	 * @param strategy bot strategy
 	 */
-	public static void quickSortInDescendingOrder (List<Move> moves, int low, int high) {
-
-		if(moves == null || moves.isEmpty()) {
-			return;
-		}
-
-		int i = low;
-		int j = high;
-		int middle = moves.get((low+high)/2).getPoints();
-
-		while (i < j) {
-			while (moves.get(i).getPoints() > middle) {
-				i++;
-			}
-			while (moves.get(j).getPoints() < middle) {
-				j--;
-			}
-			if (j>=i) {
-				Collections.swap(moves,i,j);
-				i++;
-				j--;
-			}
-		}
-
-		if (low < j) {
-			quickSortInDescendingOrder(moves, low, j);
-		}
-		if (i < high) {
-			quickSortInDescendingOrder(moves, i, high);
-		}
+	public void setStrategy(BotStrategy strategy) {
+		this.strategy = strategy;
 	}
 
 	/**
-	 * Set game.
-	 * @param game game instance
+	 * Get way of choosing move.
+	 * @return bot strategy
 	 */
-	public void setGame(Game game) {
-		this.game = game;
+	public BotStrategy getStrategy() {
+		return strategy;
 	}
 
 	/**
@@ -1,7 +1,5 @@
 package main.game;
 
-import javafx.scene.paint.Color;
-
 /**
  * Class that represents human player. <br>
  *
@@ -15,7 +13,7 @@ public class PlayerHuman extends Player {
 	 * @param nick player's nick
 	 * @param color player's color
 	 */
-	public PlayerHuman(String nick, Color color) {
+	public PlayerHuman(String nick, String color) {
 		super(nick, color);
 	}
 }
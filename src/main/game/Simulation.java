@@ -0,0 +1,223 @@
+package main.game;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Class that chooses bot move by Monte Carlo simulation.<br>
+ * Every iteration draws opponent rack from tiles unseen by bot and plays few plies
+ * after every candidate move: opponent and bot answer with their best move by points,
+ * bot racks are refilled from its bag. Equity of candidate is its points plus bot points
+ * minus opponent points in simulated plies, averaged over iterations. All candidates
+ * are simulated with the same racks in single iteration, so they are compared fairly.
+ * <br>
+ * Iterations run on worker threads until search should stop or iterations limit is reached.
+ * Every worker has its own board copy with cross-checks and move generator, copied once per
+ * search. Simulated moves are applied on it and taken back after every candidate.
+ */
+public class Simulation {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Default number of simulated candidate moves */
+	public static final int DEFAULT_CANDIDATES_COUNT = 10;
+
+	/** Default number of plies simulated after candidate move */
+	public static final int DEFAULT_PLIES = 2;
+
+	/** Default max number of iterations */
+	public static final int DEFAULT_ITERATIONS_LIMIT = 1000;
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Game with current board */
+	private final Game game;
+
+	/** Number of worker threads */
+	private final int parallelism;
+
+	/** Number of plies simulated after candidate move */
+	private final int plies;
+
+	/** Max number of iterations */
+	private final int iterationsLimit;
+
+	/** Board copy of every worker thread */
+	private final ThreadLocal<LookaheadGame> games;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor.
+	 * @param game game with current board
+	 * @param parallelism number of worker threads
+	 * @param plies number of plies simulated after candidate move
+	 * @param iterationsLimit max number of iterations
+	 */
+	public Simulation(Game game, int parallelism, int plies, int iterationsLimit) {
+		this.game = game;
+		this.parallelism = Math.max(1, parallelism);
+		this.plies = plies;
+		this.iterationsLimit = iterationsLimit;
+		games = ThreadLocal.withInitial(() -> {
+			try {
+				return new LookaheadGame();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Choose candidate with best average equity.
+	 * @param candidates candidate moves with points set, best first
+	 * @param rack bot rack before move
+	 * @param unseenTiles tiles which opponent can have on rack
+	 * @param bagTiles tiles which bot can draw
+	 * @param random random generator of simulation seed
+	 * @param search bot search with deadline
+	 * @return best candidate or null if there are no candidates
+	 */
+	public Move selectMove(List<Move> candidates, List<Tile> rack, TileBag unseenTiles, TileBag bagTiles,
+			SplittableRandom random, BotSearch search) {
+		if(candidates.size() <= 1) {
+			return candidates.isEmpty() ? null : candidates.get(0);
+		}
+
+		int count = candidates.size();
+		AtomicInteger nextIteration = new AtomicInteger();
+		double[] totals = new double[count];
+		int[] totalIterations = new int[1];
+		search.startSimulations(iterationsLimit * count);
+
+		/* Draws of iteration depend only on its index, not on worker which runs it */
+		long seed = random.nextLong();
+		Runnable worker = () -> {
+			double[] equities = new double[count];
+			int iterations = 0;
+			games.get().copyBoardFrom(game);
+			int iteration;
+			while(!search.shouldStop() && (iteration = nextIteration.getAndIncrement()) < iterationsLimit) {
+				simulate(candidates, rack, unseenTiles, bagTiles, new SplittableRandom(seed + iteration), equities);
+				iterations++;
+				search.addSimulations(count);
+			}
+			synchronized(totals) {
+				for(int i=0; i<count; i++) {
+					totals[i] += equities[i];
+				}
+				totalIterations[0] += iterations;
+			}
+		};
+
+		if(parallelism == 1) {
+			worker.run();
+		} else {
+			ParallelMoveGenerator.getPool(parallelism).submit(() -> IntStream.range(0, parallelism).parallel()
+					.forEach(i -> worker.run())).join();
+		}
+
+		if(totalIterations[0] == 0) {
+			return candidates.get(0);
+		}
+		int best = 0;
+		for(int i=1; i<count; i++) {
+			if(totals[i] > totals[best]) {
+				best = i;
+			}
+		}
+		return candidates.get(best);
+	}
+
+	/**
+	 * Run one iteration for every candidate with same drawn tiles.
+	 * @param candidates candidate moves
+	 * @param rack bot rack before move
+	 * @param unseenTiles tiles which opponent can have on rack
+	 * @param bagTiles tiles which bot can draw
+	 * @param random random generator of iteration
+	 * @param equities sums of equities to update
+	 */
+	private void simulate(List<Move> candidates, List<Tile> rack, TileBag unseenTiles, TileBag bagTiles,
+			SplittableRandom random, double[] equities) {
+		LookaheadGame simulationGame = games.get();
+
+		/* Only tiles which can be drawn in simulated plies are sampled */
+		int drawsCount = DataManager.RACK_SIZE * ((plies + 1) / 2 + 1);
+		List<Tile> opponentPool = unseenTiles.sample(drawsCount, random);
+		List<Tile> botPool = bagTiles.sample(drawsCount, random);
+
+		for(int c=0; c<candidates.size(); c++) {
+			Move candidate = candidates.get(c);
+			simulationGame.applyMove(candidate, null);
+			int equity = candidate.getPoints();
+
+			/* Bot rack after move, refilled from its bag */
+			List<Tile> botRack = new ArrayList<>(rack);
+			for(Tile tile : candidate.getTiles()) {
+				botRack.remove(tile.getCopyOf());
+			}
+			int botDrawn = refill(botRack, botPool, 0);
+
+			List<Tile> opponentRack = new ArrayList<>();
+			int opponentDrawn = refill(opponentRack, opponentPool, 0);
+
+			for(int ply=0; ply<plies; ply++) {
+				boolean opponentTurn = (ply % 2 == 0);
+				List<Tile> currentRack = opponentTurn ? opponentRack : botRack;
+				Move reply = simulationGame.getBestMove(currentRack);
+				if(reply == null) {
+					continue;
+				}
+				simulationGame.applyMove(reply, null);
+				for(Tile tile : reply.getTiles()) {
+					currentRack.remove(tile.getCopyOf());
+				}
+				if(opponentTurn) {
+					equity -= reply.getPoints();
+					opponentDrawn = refill(opponentRack, opponentPool, opponentDrawn);
+				} else {
+					equity += reply.getPoints();
+					botDrawn = refill(botRack, botPool, botDrawn);
+				}
+			}
+			equities[c] += equity;
+			while(simulationGame.getUndoCount() > 0) {
+				simulationGame.undoMove();
+			}
+		}
+	}
+
+	/**
+	 * Refill rack with next tiles of sampled pool.
+	 * @param rack rack to refill
+	 * @param pool sampled tiles
+	 * @param drawn number of tiles already drawn from pool
+	 * @return number of tiles drawn from pool
+	 */
+	private int refill(List<Tile> rack, List<Tile> pool, int drawn) {
+		while(rack.size() < DataManager.RACK_SIZE && drawn < pool.size()) {
+			rack.add(pool.get(drawn++));
+		}
+		return drawn;
+	}
+
+}
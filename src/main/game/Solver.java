@@ -39,19 +39,6 @@ public class Solver extends Game {
 
 		tileBag = new TileBag(DataManager.getGameVersion());
 
-		/* Sort by letters */
-		Collections.sort(tileBag.getTiles(), new Comparator<Tile>() {
-			@Override
-			public int compare(Tile o1, Tile o2) {
-				if(o1.getLetter() > o2.getLetter()){
-					return 1;
-				} else if(o1.getLetter() < o2.getLetter()) {
-					return -1;
-				}
-				return 0;
-			}
-		});
-
 	}
 
 	// **************************************************
@@ -65,15 +52,62 @@ public class Solver extends Game {
 	 * @return best move
 	 */
 	public Move solve(List<Tile> board, List<Tile> rack) {
+		return solve(board, rack, new BotSearch(DataManager.getBotTime() * 1000L));
+	}
+
+	/**
+	 * Returns best move found by given search
+	 * @param board current board situation
+	 * @param rack current tiles on rack
+	 * @param search bot search with deadline
+	 * @return best move
+	 */
+	public Move solve(List<Tile> board, List<Tile> rack, BotSearch search) {
 		firstMoveDone = !board.isEmpty();
-		for(int i=0; i<boardSize; i++){
-			for(int j=0; j<boardSize; j++) {
-				super.board[i][j] = null;
+		super.board.clear();
+		crossChecks.reset();
+		boardHash = 0;
+		placeTiles(board);
+		bot.setRack(rack);
+		return bot.getMove(search);
+	}
+
+	/**
+	 * Get tiles not on board and not on rack, if there are no more of them than fit on rack.
+	 * Then opponent holds all of them and endgame can be solved.
+	 * @param player player to move
+	 * @return unseen tiles or null
+	 */
+	@Override
+	public List<Tile> getEndgameRack(Player player) {
+		List<Tile> unseen = new ArrayList<>(tileBag.getTiles());
+		for(int row=0; row<boardSize; row++) {
+			for(int column=0; column<boardSize; column++) {
+				if(!board.isEmpty(row, column)) {
+					removeTile(unseen, board.isBlank(row, column), board.getLetter(row, column));
+				}
+			}
+		}
+		for(Tile tile : player.getRack()) {
+			removeTile(unseen, tile.isStar(), tile.getLetter());
+		}
+		return unseen.size() <= DataManager.RACK_SIZE ? unseen : null;
+	}
+
+	/**
+	 * Remove one tile with given letter (or blank) from tiles.
+	 * @param tiles tiles
+	 * @param star true to remove blank
+	 * @param letter letter of tile
+	 */
+	private void removeTile(List<Tile> tiles, boolean star, char letter) {
+		for(Iterator<Tile> i = tiles.iterator(); i.hasNext(); ) {
+			Tile tile = i.next();
+			if(star ? tile.isStar() : (!tile.isStar() && tile.getLetter() == letter)) {
+				i.remove();
+				return;
 			}
 		}
-		board.forEach(tile -> {super.board[tile.getRow()][tile.getColumn()] = tile; });
-		bot.setRack(rack);
-		return bot.getMove();
 	}
 
 	/**
@@ -2,11 +2,16 @@ package main.game;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Class that represent bag of tiles. Has  points values and count for Tiles in every game version
+ * <br>
+ * Bag keeps only number of remaining tiles of every letter. Random tile is drawn by picking
+ * random index among remaining tiles and walking counts of letters, so draw doesn't depend
+ * on number of tiles in bag and Tile object is created only for drawn tile. Copy of bag
+ * or sample of its tiles (eg. for simulation) costs copy of counts.
  *
  * @author Paweł Okrutny
  * @version 1.0 7.11.2017
@@ -180,8 +185,14 @@ public class TileBag {
 	// Fields
 	// **************************************************
 
-	/** Tiles in bag */
-	private List<Tile> tiles;
+	/** Number of remaining tiles of every letter, blank first */
+	private final int[] counts = new int[gameLetters.length];
+
+	/** Number of remaining tiles */
+	private int remaining;
+
+	/** Random generator of draws */
+	private final SplittableRandom random;
 
 	/** Current pattern */
 	private int[] tileBagPattern = SCRABBLE_TILE_BAG_PATTERN;
@@ -195,11 +206,22 @@ public class TileBag {
 	// **************************************************
 
 	/**
-	 * Parameterized constructor with game version.
+	 * Parameterized constructor with game version. Draws are not repeatable.
 	 * @param gameVersion game version
 	 * @throws IOException when file reading fails
 	 */
 	public TileBag(GameVersion gameVersion) throws IOException{
+		this(gameVersion, new SplittableRandom());
+	}
+
+	/**
+	 * Parameterized constructor with game version and random generator of draws.
+	 * @param gameVersion game version
+	 * @param random random generator, the same seed gives the same draws
+	 * @throws IOException when file reading fails
+	 */
+	public TileBag(GameVersion gameVersion, SplittableRandom random) throws IOException{
+		this.random = random;
 		switch(gameVersion){
 			case SCRABBLE_15x15:
 				tileBagPattern = SCRABBLE_TILE_BAG_PATTERN;
@@ -221,6 +243,19 @@ public class TileBag {
 		initTileBag();
 	}
 
+	/**
+	 * Copy constructor.
+	 * @param other bag to copy
+	 * @param random random generator of copy
+	 */
+	private TileBag(TileBag other, SplittableRandom random) {
+		this.random = random;
+		tileBagPattern = other.tileBagPattern;
+		pointsPattern = other.pointsPattern;
+		System.arraycopy(other.counts, 0, counts, 0, counts.length);
+		remaining = other.remaining;
+	}
+
 
 	// **************************************************
 	// Methods
@@ -230,15 +265,11 @@ public class TileBag {
 	 * Initialize tile bag.
 	 */
 	public void initTileBag() {
-		tiles = new ArrayList<Tile>();
-		int k = 0;
-		for (int i : tileBagPattern) {
-			for (int j=0; j<i; j++) {
-				tiles.add(new Tile(gameLetters[k], pointsPattern[k]));
-			}
-			k++;
+		remaining = 0;
+		for (int k=0; k<counts.length; k++) {
+			counts[k] = (k < tileBagPattern.length) ? tileBagPattern[k] : 0;
+			remaining += counts[k];
 		}
-		Collections.shuffle(tiles);
 	}
 
 	/**
@@ -246,25 +277,129 @@ public class TileBag {
 	 * @return number of Tiles left
 	 */
 	public int getRemainingTilesCount() {
-		return tiles.size();
+		return remaining;
 	}
 
 	/**
-	 * Get tile from bag and remove.
-	 * @return Tile
+	 * Get count of remaining tiles with given letter.
+	 * @param letter capital letter or '*' for blank
+	 * @return number of tiles
+	 */
+	public int getCount(char letter) {
+		return counts[getIndex(letter)];
+	}
+
+	/**
+	 * Get random tile from bag and remove.
+	 * @return Tile or null if bag is empty
 	 */
 	public Tile grabTile() {
-		if (!tiles.isEmpty()) {
-			return tiles.remove(0);
+		if (remaining == 0) {
+			return null;
 		}
-		return null;
+		return createTile(takeRandom(counts, remaining--, random));
+	}
+
+	/**
+	 * Put tile back to bag.
+	 * @param tile tile, blank used as letter is put back as blank
+	 */
+	public void addTile(Tile tile) {
+		counts[tile.isStar() ? 0 : getIndex(tile.getLetter())]++;
+		remaining++;
+	}
+
+	/**
+	 * Draw random tiles without removing them from bag. Tiles are in order of drawing,
+	 * so first n of them are a random draw of n tiles.
+	 * @param count max number of tiles
+	 * @param random random generator
+	 * @return tiles, all remaining ones if there are less of them than count
+	 */
+	public List<Tile> sample(int count, SplittableRandom random) {
+		int[] left = counts.clone();
+		int size = Math.min(count, remaining);
+		List<Tile> tiles = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			tiles.add(createTile(takeRandom(left, remaining - i, random)));
+		}
+		return tiles;
 	}
 
 	/**
-	 * Get all tiles from bag.
+	 * Create copy of bag. Copy draws with its own generator split from generator of bag.
+	 * @return new bag with the same tiles
+	 */
+	public TileBag copy() {
+		return copy(random.split());
+	}
+
+	/**
+	 * Create copy of bag with given generator, so generator of bag isn't used.
+	 * @param random random generator of copy
+	 * @return new bag with the same tiles
+	 */
+	public TileBag copy(SplittableRandom random) {
+		return new TileBag(this, random);
+	}
+
+	/**
+	 * Get points of letter in current game version.
+	 * @param letter capital letter or '*' for blank
+	 * @return points
+	 */
+	public int getPoints(char letter) {
+		return pointsPattern[getIndex(letter)];
+	}
+
+	/**
+	 * Get all tiles from bag. Tiles are created from counts, sorted by letters with blanks
+	 * first, so changing list doesn't change bag.
 	 * @return tiles
 	 */
 	public List<Tile> getTiles() {
+		List<Tile> tiles = new ArrayList<>(remaining);
+		for (int k=0; k<counts.length; k++) {
+			for (int j=0; j<counts[k]; j++) {
+				tiles.add(createTile(k));
+			}
+		}
 		return tiles;
 	}
+
+	/**
+	 * Remove random tile from counts.
+	 * @param counts counts of letters
+	 * @param total sum of counts, greater than 0
+	 * @param random random generator
+	 * @return index of removed letter
+	 */
+	private static int takeRandom(int[] counts, int total, SplittableRandom random) {
+		int index = random.nextInt(total);
+		int k = 0;
+		while (index >= counts[k]) {
+			index -= counts[k];
+			k++;
+		}
+		counts[k]--;
+		return k;
+	}
+
+	/**
+	 * Create new tile.
+	 * @param index index of letter, 0 for blank
+	 * @return Tile
+	 */
+	private Tile createTile(int index) {
+		return new Tile(gameLetters[index], pointsPattern[index]);
+	}
+
+	/**
+	 * Get index of letter in counts.
+	 * @param letter capital letter or '*' for blank
+	 * @return index
+	 */
+	private static int getIndex(char letter) {
+		return (letter == '*') ? 0 : letter - 'A' + 1;
+	}
 }
@@ -0,0 +1,452 @@
+package main.game;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Class that runs bot against bot games without user interface.<br>
+ * Every bot has its own difficulty and strategy. Games are played in parallel on
+ * ForkJoinPool, every game has its own bots and board, dictionary is shared. First player
+ * changes from game to game. Results are collected into report with win rates, average
+ * scores, moves per second and bot move latency. Game with index i has seed equal to
+ * tournament seed + i, so tournament with the same seed deals the same tiles.
+ */
+public class Tournament {
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Setups of bots, one bot for every setup */
+	private final BotSetup[] bots;
+
+	/** Number of games */
+	private final int gamesCount;
+
+	/** Number of games played at once */
+	private final int parallelism;
+
+	/** Seed of first game */
+	private final long seed;
+
+
+	/**
+	 * Class that represents settings of single bot.
+	 */
+	public static class BotSetup {
+
+		/** Bot difficulty */
+		private final int difficulty;
+
+		/** Way of choosing bot move */
+		private final BotStrategy strategy;
+
+		/**
+		 * Parameterized constructor.
+		 * @param difficulty bot difficulty, min - max difficulty
+		 * @param strategy way of choosing bot move
+		 */
+		public BotSetup(int difficulty, BotStrategy strategy) {
+			if(difficulty < DataManager.MIN_DIFFICULTY || difficulty > DataManager.MAX_DIFFICULTY) {
+				throw new IllegalArgumentException("Invalid bot difficulty: " + difficulty);
+			}
+			if(strategy == null) {
+				throw new IllegalArgumentException("Bot strategy can't be null");
+			}
+			this.difficulty = difficulty;
+			this.strategy = strategy;
+		}
+
+		/**
+		 * Create setup from String "difficulty" or "difficulty:strategy", eg. "10:LEAVE".
+		 * Strategy is given by enum name, default strategy is loaded from config.
+		 * @param setupString setup as String
+		 * @return bot setup
+		 */
+		public static BotSetup parse(String setupString) {
+			String[] parts = setupString.trim().split(":");
+			BotStrategy strategy = (parts.length > 1) ? BotStrategy.valueOf(parts[1].trim().toUpperCase())
+					: DataManager.getBotStrategy();
+			return new BotSetup(Integer.parseInt(parts[0].trim()), strategy);
+		}
+
+		/**
+		 * Get bot difficulty.
+		 * @return difficulty
+		 */
+		public int getDifficulty() {
+			return difficulty;
+		}
+
+		/**
+		 * Get way of choosing bot move.
+		 * @return strategy
+		 */
+		public BotStrategy getStrategy() {
+			return strategy;
+		}
+
+		/**
+		 * Return setup as String.
+		 * @return setup
+		 */
+		@Override
+		public String toString() {
+			return String.format("difficulty %d, %s", difficulty, strategy);
+		}
+	}
+
+	/**
+	 * Class that represents result of single game.
+	 */
+	private static class GameRecord {
+
+		/** Points of every bot, in order of setups */
+		private final int[] points;
+
+		/** Times of bot moves in nanoseconds */
+		private final long[] latencies;
+
+		/**
+		 * Parameterized constructor.
+		 * @param points points of every bot
+		 * @param latencies times of bot moves
+		 */
+		private GameRecord(int[] points, long[] latencies) {
+			this.points = points;
+			this.latencies = latencies;
+		}
+	}
+
+	/**
+	 * Class that represents result of tournament.
+	 */
+	public static class Result {
+
+		/** Setups of bots */
+		private final BotSetup[] bots;
+
+		/** Number of games */
+		private final int gamesCount;
+
+		/** Wins of every bot */
+		private final int[] wins;
+
+		/** Sum of points of every bot */
+		private final long[] points;
+
+		/** Number of games without single winner */
+		private final int draws;
+
+		/** Sorted times of bot moves in nanoseconds */
+		private final long[] latencies;
+
+		/** Tournament time in nanoseconds */
+		private final long time;
+
+		/** Tournament seed */
+		private final long seed;
+
+		/**
+		 * Parameterized constructor. Sum results of games.
+		 * @param bots setups of bots
+		 * @param records results of games
+		 * @param time tournament time in nanoseconds
+		 * @param seed tournament seed
+		 */
+		private Result(BotSetup[] bots, List<GameRecord> records, long time, long seed) {
+			this.bots = bots;
+			this.seed = seed;
+			this.gamesCount = records.size();
+			this.time = time;
+			wins = new int[bots.length];
+			points = new long[bots.length];
+
+			int drawsCount = 0;
+			int movesCount = 0;
+			for(GameRecord record : records) {
+				int best = 0;
+				boolean draw = false;
+				for(int i=0; i<bots.length; i++) {
+					points[i] += record.points[i];
+					if(i > 0 && record.points[i] > record.points[best]) {
+						best = i;
+						draw = false;
+					} else if(i > 0 && record.points[i] == record.points[best]) {
+						draw = true;
+					}
+				}
+				if(draw) {
+					drawsCount++;
+				} else {
+					wins[best]++;
+				}
+				movesCount += record.latencies.length;
+			}
+			draws = drawsCount;
+
+			latencies = new long[movesCount];
+			int k = 0;
+			for(GameRecord record : records) {
+				System.arraycopy(record.latencies, 0, latencies, k, record.latencies.length);
+				k += record.latencies.length;
+			}
+			Arrays.sort(latencies);
+		}
+
+		/**
+		 * Get setup of bot.
+		 * @param bot bot index
+		 * @return bot setup
+		 */
+		public BotSetup getBot(int bot) {
+			return bots[bot];
+		}
+
+		/**
+		 * Get number of games won by bot.
+		 * @param bot bot index
+		 * @return wins count
+		 */
+		public int getWins(int bot) {
+			return wins[bot];
+		}
+
+		/**
+		 * Get number of games without single winner.
+		 * @return draws count
+		 */
+		public int getDraws() {
+			return draws;
+		}
+
+		/**
+		 * Get tournament seed.
+		 * @return seed
+		 */
+		public long getSeed() {
+			return seed;
+		}
+
+		/**
+		 * Get number of played games.
+		 * @return games count
+		 */
+		public int getGamesCount() {
+			return gamesCount;
+		}
+
+		/**
+		 * Get average points of bot.
+		 * @param bot bot index
+		 * @return average points
+		 */
+		public double getAveragePoints(int bot) {
+			return gamesCount == 0 ? 0 : (double) points[bot] / gamesCount;
+		}
+
+		/**
+		 * Get number of bot moves (passes included) in all games.
+		 * @return moves count
+		 */
+		public int getMovesCount() {
+			return latencies.length;
+		}
+
+		/**
+		 * Get bot moves per second of tournament time.
+		 * @return moves per second
+		 */
+		public double getMovesPerSecond() {
+			return time == 0 ? 0 : latencies.length * 1e9 / time;
+		}
+
+		/**
+		 * Get bot move time percentile.
+		 * @param percentile percentile, 0 - 100
+		 * @return time in milliseconds
+		 */
+		public double getLatencyPercentile(double percentile) {
+			if(latencies.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+			return latencies[Math.max(0, Math.min(latencies.length - 1, index))] / 1e6;
+		}
+
+		/**
+		 * Return report as String.
+		 * @return report
+		 */
+		@Override
+		public String toString() {
+			StringBuilder report = new StringBuilder();
+			report.append(String.format("Games: %d, draws: %d, time: %.1f s, seed: %d%n", gamesCount, draws, time / 1e9, seed));
+			for(int i=0; i<bots.length; i++) {
+				report.append(String.format("Bot %d (%s): win rate %.1f%%, average points %.1f%n",
+						i + 1, bots[i], gamesCount == 0 ? 0 : 100.0 * wins[i] / gamesCount, getAveragePoints(i)));
+			}
+			report.append(String.format("Moves: %d, %.1f moves/s%n", latencies.length, getMovesPerSecond()));
+			report.append(String.format("Move time: p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms",
+					getLatencyPercentile(50), getLatencyPercentile(90), getLatencyPercentile(99), getLatencyPercentile(100)));
+			return report.toString();
+		}
+	}
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor. Tournament seed is random, bots use strategy from config.
+	 * @param difficulties difficulties of bots, at least two
+	 * @param gamesCount number of games
+	 * @param parallelism number of games played at once
+	 */
+	public Tournament(int[] difficulties, int gamesCount, int parallelism) {
+		this(difficulties, gamesCount, parallelism, new SplittableRandom().nextLong());
+	}
+
+	/**
+	 * Parameterized constructor. Bots use strategy from config.
+	 * @param difficulties difficulties of bots, at least two
+	 * @param gamesCount number of games
+	 * @param parallelism number of games played at once
+	 * @param seed seed of first game
+	 */
+	public Tournament(int[] difficulties, int gamesCount, int parallelism, long seed) {
+		this(Arrays.stream(difficulties).mapToObj(difficulty -> new BotSetup(difficulty, DataManager.getBotStrategy()))
+				.toArray(BotSetup[]::new), gamesCount, parallelism, seed);
+	}
+
+	/**
+	 * Parameterized constructor.
+	 * @param bots setups of bots, at least two
+	 * @param gamesCount number of games
+	 * @param parallelism number of games played at once
+	 * @param seed seed of first game
+	 */
+	public Tournament(BotSetup[] bots, int gamesCount, int parallelism, long seed) {
+		if(bots.length < 2) {
+			throw new IllegalArgumentException("Tournament needs at least two bots");
+		}
+		this.bots = bots.clone();
+		this.gamesCount = gamesCount;
+		this.parallelism = Math.max(1, parallelism);
+		this.seed = seed;
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Play all games and collect results.
+	 * @return tournament result
+	 * @throws IOException when loading game files fails
+	 */
+	public Result run() throws IOException {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		long start = System.nanoTime();
+		try {
+			List<GameRecord> records = pool.submit(() -> IntStream.range(0, gamesCount).parallel()
+					.mapToObj(this::playGame)
+					.collect(Collectors.toList())).get();
+			return new Result(bots, records, System.nanoTime() - start, seed);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Tournament interrupted", e);
+		} catch (ExecutionException e) {
+			if(e.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			}
+			throw new IOException("Tournament failed", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Play single game. Game with index i is started by bot i modulo bots count.
+	 * @param index game index
+	 * @return game result
+	 */
+	private GameRecord playGame(int index) {
+		int botsCount = bots.length;
+		List<Player> players = new ArrayList<>();
+		for(int i=0; i<botsCount; i++) {
+			int bot = (index + i) % botsCount;
+			PlayerBot player = new PlayerBot("Bot " + (bot + 1), null, bots[bot].getDifficulty());
+			player.setStrategy(bots[bot].getStrategy());
+			/* Games are already played in parallel */
+			player.setParallelism(1);
+			players.add(player);
+		}
+
+		List<Long> latencies = new ArrayList<>();
+		NormalGame game;
+		try {
+			game = new NormalGame(players, new GameListener() {
+				private long turnStart;
+
+				@Override
+				public void onBotTurn(Player player) {
+					turnStart = System.nanoTime();
+				}
+
+				@Override
+				public void onBotMove(Player player, Move move, int points) {
+					latencies.add(System.nanoTime() - turnStart);
+				}
+
+				@Override
+				public void onBotPass(Player player) {
+					latencies.add(System.nanoTime() - turnStart);
+				}
+			}, seed + index);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		game.continueGame();
+
+		int[] points = new int[botsCount];
+		for(int i=0; i<botsCount; i++) {
+			points[(index + i) % botsCount] = players.get(i).getPoints();
+		}
+		return new GameRecord(points, latencies.stream().mapToLong(Long::longValue).toArray());
+	}
+
+	/**
+	 * Run tournament from command line and print report. Configuration is loaded from config file.<br>
+	 * Arguments: games count (default 100), parallelism (default all processors),
+	 * setups of bots as "difficulty" or "difficulty:strategy" (default "10,10", strategy from config),
+	 * seed (default random). Eg. "10:LEAVE,10:SIMULATION".
+	 * @param args optional arguments
+	 * @throws IOException when loading game files fails
+	 * @throws XMLStreamException when config file is invalid
+	 */
+	public static void main(String[] args) throws IOException, XMLStreamException {
+		DataManager.loadConfig();
+		int gamesCount = (args.length > 0) ? Integer.parseInt(args[0]) : 100;
+		int parallelism = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		String setups = (args.length > 2) ? args[2] : DataManager.MAX_DIFFICULTY + "," + DataManager.MAX_DIFFICULTY;
+
+		long seed = (args.length > 3) ? Long.parseLong(args[3]) : new SplittableRandom().nextLong();
+
+		Tournament tournament = new Tournament(Arrays.stream(setups.split(",")).map(BotSetup::parse).toArray(BotSetup[]::new),
+				gamesCount, parallelism, seed);
+		System.out.println(tournament.run());
+	}
+
+}
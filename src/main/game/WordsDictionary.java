@@ -0,0 +1,51 @@
+package main.game;
+
+import java.io.IOException;
+
+/**
+ * Interface of dictionary used by game to validate words.<br>
+ * Implemented by every dictionary structure (tree, packed tree, ...).
+ */
+public interface WordsDictionary {
+
+	/**
+	 * Load dictionary from file.
+	 * @param filePath file path, default dictionary file if null
+	 * @throws IOException thrown when loading fails
+	 */
+	void loadWords(String filePath) throws IOException;
+
+	/**
+	 * Add word to dictionary.
+	 * @param word word to add
+	 * @return true if success
+	 */
+	boolean addWord(String word);
+
+	/**
+	 * Check that given word exists in dictionary.
+	 * @param word to search
+	 * @return true if word is valid
+	 */
+	boolean searchWord(String word);
+
+	/**
+	 * Check that given path, starting from root, exists.
+	 * @param word path
+	 * @return true if path exists
+	 */
+	boolean existsPath(String word);
+
+	/**
+	 * Returns words number in dictionary.
+	 * @return words number
+	 */
+	int getWordsCount();
+
+	/**
+	 * Create new cursor at the beginning of word.
+	 * @return cursor
+	 */
+	DictionaryCursor getCursor();
+
+}
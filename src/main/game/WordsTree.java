@@ -13,7 +13,7 @@ import java.util.*;
  * @author Paweł Okrutny
  * @version 1.0 7.11.2017
  */
-public class WordsTree {
+public class WordsTree implements WordsDictionary {
 
 	// **************************************************
 	// Fields
@@ -38,6 +38,63 @@ public class WordsTree {
 		}
 	}
 
+	/**
+	 * Private class that represents cursor walking tree from root.<br>
+	 * Keeps nodes of current path on stack.
+	 */
+	private class TreeCursor implements DictionaryCursor {
+		private Node[] nodes = new Node[16];
+		private int depth = 0;
+
+		private TreeCursor() {
+			nodes[0] = root;
+		}
+
+		@Override
+		public void reset() {
+			depth = 0;
+		}
+
+		@Override
+		public boolean advance(char letter) {
+			Node next = nodes[depth].children.get(letter);
+			if(next == null) {
+				return false;
+			}
+			if(depth + 1 == nodes.length) {
+				nodes = Arrays.copyOf(nodes, nodes.length * 2);
+			}
+			nodes[++depth] = next;
+			return true;
+		}
+
+		@Override
+		public void back() {
+			if(depth > 0) {
+				depth--;
+			}
+		}
+
+		@Override
+		public boolean isTerminal() {
+			return nodes[depth].isLastLetter;
+		}
+
+		@Override
+		public int getChildrenMask() {
+			int mask = 0;
+			for(char letter : nodes[depth].children.keySet()) {
+				mask |= 1 << (letter - 'A');
+			}
+			return mask;
+		}
+
+		@Override
+		public int getDepth() {
+			return depth;
+		}
+	}
+
 	/**
 	 * Constructor that create new tree with just root.
 	 */
@@ -62,6 +119,7 @@ public class WordsTree {
 	 * Returns words number in dictionary.
 	 * @return words number
 	 */
+	@Override
 	public int getWordsCount() {
 		return wordsCount;
 	}
@@ -71,6 +129,7 @@ public class WordsTree {
 	 * @param filePath file path
 	 * @throws IOException thrown when loading fails
 	 */
+	@Override
 	public void loadWords(String filePath) throws IOException {
 
 		if(filePath == null) {
@@ -93,6 +152,7 @@ public class WordsTree {
 	 * @param word word to add
 	 * @return true if success
 	 */
+	@Override
 	public boolean addWord(String word) {
 		if(!word.matches("[A-Z]+")) {
 			return false;
@@ -120,6 +180,7 @@ public class WordsTree {
 	 * @param word to search
 	 * @return true if word is valid
 	 */
+	@Override
 	public boolean searchWord(String word) {
 		Node currentNode = root;
 		for(char letter : word.toCharArray()) {
@@ -132,11 +193,21 @@ public class WordsTree {
 		return currentNode.isLastLetter;
 	}
 
+	/**
+	 * Create new cursor at the beginning of word.
+	 * @return cursor
+	 */
+	@Override
+	public DictionaryCursor getCursor() {
+		return new TreeCursor();
+	}
+
 	/**
 	 * Check that given path, starting from root, exist
 	 * @param word path
 	 * @return true if path exists
 	 */
+	@Override
 	public boolean existsPath(String word) {
 		Node currentNode = root;
 		for(char letter : word.toCharArray()) {
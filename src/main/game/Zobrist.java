@@ -0,0 +1,169 @@
+package main.game;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class with random 64-bit keys of Zobrist hashing.<br>
+ * Hash of position is XOR of keys of tiles on board (square, letter and blank flag),
+ * keys of rack tiles of every player (kind and number of tile of this kind on rack)
+ * and key of player to move. XOR is its own inverse, so placed or removed tile changes
+ * hash in O(1) and the same position always has the same hash, whatever order of moves.
+ * <br>
+ * Keys are the same in every run, so hashes can be compared between games.
+ */
+public class Zobrist {
+
+	// **************************************************
+	// Constants
+	// **************************************************
+
+	/** Number of players with own rack and side keys, more players reuse them */
+	public static final int MAX_SIDES = 4;
+
+	/** Number of tile kinds on rack, letters and blank */
+	private static final int KINDS_COUNT = PackedWordsGraph.LETTERS_COUNT + 1;
+
+	/** Index of blank in tile kinds */
+	private static final int BLANK = PackedWordsGraph.LETTERS_COUNT;
+
+	/** Max number of tiles of one kind with own key, next tiles reuse the last key */
+	private static final int MAX_COUNT = 16;
+
+	/** Keys of rack tiles by side, kind and number of tile of this kind */
+	private static final long[] RACK_KEYS = new long[MAX_SIDES * KINDS_COUNT * MAX_COUNT];
+
+	/** Keys of player to move */
+	private static final long[] SIDE_KEYS = new long[MAX_SIDES];
+
+	/** Keys of boards by size */
+	private static final Map<Integer, Zobrist> INSTANCES = new ConcurrentHashMap<>();
+
+	static {
+		SplittableRandom random = new SplittableRandom(0x5A4F4252L);
+		for(int i=0; i<RACK_KEYS.length; i++) {
+			RACK_KEYS[i] = random.nextLong();
+		}
+		/* Side 0 to move adds nothing, so board-only hash equals position hash of first player */
+		for(int i=1; i<MAX_SIDES; i++) {
+			SIDE_KEYS[i] = random.nextLong();
+		}
+	}
+
+
+	// **************************************************
+	// Fields
+	// **************************************************
+
+	/** Board size */
+	private final int size;
+
+	/** Keys of tiles on board by square, letter and blank flag */
+	private final long[] squareKeys;
+
+
+	// **************************************************
+	// Constructors
+	// **************************************************
+
+	/**
+	 * Parameterized constructor.
+	 * @param size board size
+	 */
+	private Zobrist(int size) {
+		this.size = size;
+		squareKeys = new long[size * size * 2 * PackedWordsGraph.LETTERS_COUNT];
+		SplittableRandom random = new SplittableRandom(0x5A4F4252L + size);
+		for(int i=0; i<squareKeys.length; i++) {
+			squareKeys[i] = random.nextLong();
+		}
+	}
+
+
+	// **************************************************
+	// Methods
+	// **************************************************
+
+	/**
+	 * Get keys of board with given size.
+	 * @param size board size
+	 * @return shared keys
+	 */
+	public static Zobrist getInstance(int size) {
+		return INSTANCES.computeIfAbsent(size, Zobrist::new);
+	}
+
+	/**
+	 * Get key of tile on board.
+	 * @param row row
+	 * @param column column
+	 * @param letter capital letter
+	 * @param blank true if tile is blank used as letter
+	 * @return tile key
+	 */
+	public long getTileKey(int row, int column, char letter, boolean blank) {
+		return squareKeys[((row * size + column) * PackedWordsGraph.LETTERS_COUNT + (letter - 'A')) * 2 + (blank ? 1 : 0)];
+	}
+
+	/**
+	 * Get key of tile on board.
+	 * @param tile tile with row and column set
+	 * @return tile key
+	 */
+	public long getTileKey(Tile tile) {
+		return getTileKey(tile.getRow(), tile.getColumn(), tile.getLetter(), tile.isStar());
+	}
+
+	/**
+	 * Get key of placement: XOR of keys of placed tiles. Board hash changes by this key
+	 * when move is placed.
+	 * @param tiles placed tiles
+	 * @return placement key
+	 */
+	public long getMoveKey(List<Tile> tiles) {
+		long key = 0;
+		for(Tile tile : tiles) {
+			key ^= getTileKey(tile);
+		}
+		return key;
+	}
+
+	/**
+	 * Get key of n-th rack tile of given kind.
+	 * @param side index of player
+	 * @param kind letter index (0 is 'A') or blank index
+	 * @param number number of tiles of this kind already counted
+	 * @return tile key
+	 */
+	public static long getRackTileKey(int side, int kind, int number) {
+		return RACK_KEYS[((side % MAX_SIDES) * KINDS_COUNT + kind) * MAX_COUNT + Math.min(number, MAX_COUNT - 1)];
+	}
+
+	/**
+	 * Get key of rack contents. Order of tiles doesn't matter.
+	 * @param side index of player
+	 * @param rack rack tiles
+	 * @return rack key
+	 */
+	public static long getRackKey(int side, List<Tile> rack) {
+		int[] counts = new int[KINDS_COUNT];
+		long key = 0;
+		for(Tile tile : rack) {
+			int kind = tile.isStar() ? BLANK : tile.getLetter() - 'A';
+			key ^= getRackTileKey(side, kind, counts[kind]++);
+		}
+		return key;
+	}
+
+	/**
+	 * Get key of player to move.
+	 * @param side index of player
+	 * @return side key, 0 for first player
+	 */
+	public static long getSideKey(int side) {
+		return SIDE_KEYS[side % MAX_SIDES];
+	}
+
+}
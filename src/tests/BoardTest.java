@@ -0,0 +1,148 @@
+package tests;
+
+import main.game.Board;
+import main.game.BoardBonus;
+import main.game.DataManager;
+import main.game.GameVersion;
+import main.game.Tile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardTest {
+
+	private Tile createTile(char letter, int points, int row, int column) {
+		Tile tile = new Tile(letter, points);
+		tile.setRow(row);
+		tile.setColumn(column);
+		return tile;
+	}
+
+	@Test
+	@DisplayName("Should keep letter, blank flag and points of placed tiles")
+	public void tilesTest() {
+		Board board = new Board(5, null);
+		assertTrue(board.isEmpty(2, 2));
+		assertNull(board.getTile(2, 2));
+		assertFalse(board.hasTile(-1, 0));
+		assertFalse(board.hasTile(0, 5));
+
+		board.set(createTile('Q', 10, 2, 2));
+		Tile blank = createTile('*', 0, 2, 3);
+		blank.setLetter('Z');
+		board.set(blank);
+
+		assertTrue(board.hasTile(2, 2));
+		assertEquals('Q', board.getLetter(2, 2));
+		assertEquals(10, board.getPoints(2, 2));
+		assertFalse(board.isBlank(2, 2));
+		assertEquals('Z', board.getLetter(2, 3));
+		assertEquals(0, board.getPoints(2, 3));
+		assertTrue(board.isBlank(2, 3));
+
+		Tile tile = board.getTile(2, 3);
+		assertEquals('Z', tile.getLetter());
+		assertTrue(tile.isStar());
+		assertEquals(2, tile.getRow());
+		assertEquals(3, tile.getColumn());
+
+		board.clear(2, 2);
+		assertTrue(board.isEmpty(2, 2));
+		assertEquals(0, board.getPoints(2, 2));
+	}
+
+	@Test
+	@DisplayName("Should restore board from snapshot and copy")
+	public void snapshotTest() {
+		Board board = new Board(5, null);
+		board.set(createTile('A', 1, 0, 0));
+		byte[] snapshot = board.snapshot();
+		board.set(createTile('B', 3, 0, 1));
+		board.clear(0, 0);
+
+		board.restore(snapshot);
+		assertEquals('A', board.getLetter(0, 0));
+		assertTrue(board.isEmpty(0, 1));
+
+		Board copy = new Board(5, null);
+		copy.copyFrom(board);
+		assertEquals('A', copy.getLetter(0, 0));
+		board.clear();
+		assertTrue(board.isEmpty(0, 0));
+		assertEquals('A', copy.getLetter(0, 0));
+	}
+
+	@Test
+	@DisplayName("Should take square multipliers from board scheme")
+	public void bonusesTest() throws IOException {
+		DataManager.setGameVersion(GameVersion.SCRABBLE_15x15);
+		DataManager.setBoardSize(15);
+		BoardBonus[][] bonuses = DataManager.getBoardScheme();
+		Board board = new Board(15, bonuses);
+		for(int row=0; row<15; row++) {
+			for(int column=0; column<15; column++) {
+				assertEquals(bonuses[row][column].getLetterMultiplier(), board.getLetterMultiplier(row, column));
+				assertEquals(bonuses[row][column].getWordMultiplier(), board.getWordMultiplier(row, column));
+				assertEquals(bonuses[row][column] == BoardBonus.BEGIN, board.isBegin(row, column));
+			}
+		}
+		assertTrue(board.isBegin(7, 7));
+	}
+
+	private void assertMasks(Board board) {
+		int size = board.getSize();
+		for(int line=0; line<size; line++) {
+			for(boolean horizontally : new boolean[] {true, false}) {
+				long occupied = board.getOccupiedMask(line, horizontally);
+				long anchors = board.getAnchorMask(line, horizontally);
+				for(int pos=0; pos<size; pos++) {
+					int row = horizontally ? line : pos;
+					int column = horizontally ? pos : line;
+					boolean neighbour = board.hasTile(row - 1, column) || board.hasTile(row + 1, column)
+							|| board.hasTile(row, column - 1) || board.hasTile(row, column + 1);
+					assertEquals(!board.isEmpty(row, column), (occupied >>> pos & 1) != 0);
+					assertEquals(neighbour, board.hasNeighbour(row, column));
+					assertEquals(neighbour && board.isEmpty(row, column), (anchors >>> pos & 1) != 0, row + ":" + column);
+				}
+				if(size < Long.SIZE) {
+					assertEquals(0, occupied >>> size);
+					assertEquals(0, anchors >>> size);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Should keep occupancy and anchor masks equal to neighbours of tiles")
+	public void anchorMasksTest() {
+		Random random = new Random(22);
+		for(int size : new int[] {5, 15, 64}) {
+			Board board = new Board(size, null);
+			assertMasks(board);
+			for(int i=0; i<3*size; i++) {
+				int row = random.nextInt(size);
+				int column = random.nextInt(size);
+				if(board.isEmpty(row, column)) {
+					board.set(createTile('E', 1, row, column));
+				} else {
+					board.clear(row, column);
+				}
+			}
+			assertMasks(board);
+			byte[] snapshot = board.snapshot();
+			Board copy = new Board(size, null);
+			copy.copyFrom(board);
+			board.clear();
+			assertMasks(board);
+			board.restore(snapshot);
+			assertMasks(board);
+			assertMasks(copy);
+		}
+		assertThrows(IllegalArgumentException.class, () -> new Board(Board.MAX_SIZE + 1, null));
+	}
+
+}
@@ -0,0 +1,127 @@
+package tests;
+
+import main.game.Board;
+import main.game.CrossChecks;
+import main.game.DictionaryType;
+import main.game.Tile;
+import main.game.WordsDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrossChecksTest {
+
+	private static final int SIZE = 7;
+
+	private static final String[] WORDS = {"AT", "AS", "CAT", "CATS", "SAT", "TA", "TAT", "ACT", "SCAT"};
+
+	private WordsDictionary dictionary;
+
+	private CrossChecks crossChecks;
+
+	private Board board;
+
+	@BeforeEach
+	public void init() {
+		dictionary = DictionaryType.DAWG.createDictionary();
+		for(String word : WORDS) {
+			dictionary.addWord(word);
+		}
+		crossChecks = new CrossChecks(dictionary, SIZE);
+		board = new Board(SIZE, null);
+	}
+
+	private void place(char letter, int row, int column) {
+		Tile tile = new Tile(letter, letter - 'A' + 1);
+		tile.setRow(row);
+		tile.setColumn(column);
+		board.set(tile);
+		crossChecks.update(board, row, column);
+	}
+
+	private String getWord(int row, int column, boolean horizontally, char letter) {
+		int rowStep = horizontally ? 1 : 0;
+		int columnStep = horizontally ? 0 : 1;
+		StringBuilder word = new StringBuilder(String.valueOf(letter));
+		for(int j=row-rowStep, i=column-columnStep; j>=0 && i>=0 && !board.isEmpty(j, i); j-=rowStep, i-=columnStep) {
+			word.insert(0, board.getLetter(j, i));
+		}
+		for(int j=row+rowStep, i=column+columnStep; j<SIZE && i<SIZE && !board.isEmpty(j, i); j+=rowStep, i+=columnStep) {
+			word.append(board.getLetter(j, i));
+		}
+		return word.toString();
+	}
+
+	private void assertCrossChecks() {
+		for(int row=0; row<SIZE; row++) {
+			for(int column=0; column<SIZE; column++) {
+				if(!board.isEmpty(row, column)) {
+					continue;
+				}
+				for(boolean horizontally : new boolean[] {true, false}) {
+					int score = 0;
+					String emptyWord = getWord(row, column, horizontally, ' ');
+					for(char letter : emptyWord.replace(" ", "").toCharArray()) {
+						score += letter - 'A' + 1;
+					}
+					if(emptyWord.length() == 1) {
+						assertEquals(CrossChecks.NO_CROSS_WORD, crossChecks.getScore(row, column, horizontally));
+					} else {
+						assertEquals(score, crossChecks.getScore(row, column, horizontally));
+					}
+					for(char letter='A'; letter<='Z'; letter++) {
+						String word = getWord(row, column, horizontally, letter);
+						boolean expected = word.length() == 1 || dictionary.searchWord(word);
+						assertEquals(expected, crossChecks.isAllowed(row, column, horizontally, letter), row + ":" + column + " " + word);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Should allow all letters on empty board")
+	public void emptyBoardTest() {
+		assertCrossChecks();
+		assertFalse(crossChecks.isAllowed(0, 0, true, '*'));
+	}
+
+	@Test
+	@DisplayName("Should keep cross-checks equal to perpendicular words after every placed tile")
+	public void incrementalUpdateTest() {
+		place('C', 3, 1);
+		assertCrossChecks();
+		place('A', 3, 2);
+		place('T', 3, 3);
+		assertCrossChecks();
+		place('A', 2, 3);
+		place('S', 4, 3);
+		assertCrossChecks();
+		place('T', 2, 5);
+		place('A', 3, 5);
+		assertCrossChecks();
+	}
+
+	@Test
+	@DisplayName("Should restore cross-checks of marked board after rollback")
+	public void rollbackTest() {
+		place('C', 3, 1);
+		place('A', 3, 2);
+		place('T', 3, 3);
+		int mark = crossChecks.mark();
+		place('A', 2, 3);
+		place('S', 4, 3);
+		int innerMark = crossChecks.mark();
+		place('S', 3, 4);
+		crossChecks.rollback(innerMark);
+		board.clear(3, 4);
+		assertCrossChecks();
+		crossChecks.rollback(mark);
+		board.clear(2, 3);
+		board.clear(4, 3);
+		assertCrossChecks();
+	}
+
+}
@@ -1,5 +1,6 @@
 package tests;
 
+import main.game.Board;
 import main.game.BoardBonus;
 import main.game.DataManager;
 import main.game.GameMode;
@@ -11,6 +12,10 @@ import javax.imageio.IIOException;
 import javax.xml.stream.XMLStreamException;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -69,6 +74,7 @@ class DataManagerTest {
 			e.printStackTrace();
 		}
 		DataManager.setBotTime(3);
+		DataManager.setBotParallelism(2);
 		try {
 			DataManager.saveConfig();
 			DataManager.loadConfig();
@@ -76,6 +82,16 @@ class DataManagerTest {
 			e.printStackTrace();
 		}
 		assertEquals(3, DataManager.getBotTime());
+		assertEquals(2, DataManager.getBotParallelism());
+	}
+
+	@Test
+	@DisplayName("Should ignore bot parallelism out of range")
+	public void botParallelismTest() {
+		DataManager.setBotParallelism(3);
+		DataManager.setBotParallelism(DataManager.MIN_BOT_PARALLELISM - 1);
+		DataManager.setBotParallelism(DataManager.MAX_BOT_PARALLELISM + 1);
+		assertEquals(3, DataManager.getBotParallelism());
 	}
 
 	@Test
@@ -94,4 +110,22 @@ class DataManagerTest {
 
 
 	}
+
+	@Test
+	@DisplayName("Should throw Exception when custom board is too large")
+	public void customBoardSizeTest() throws IOException {
+		Path path = Paths.get(DataManager.CUSTOM_BOARD_FILE);
+		byte[] customBoard = Files.readAllBytes(path);
+		GameVersion gameVersion = DataManager.getGameVersion();
+		int boardSize = DataManager.getBoardSize();
+		try {
+			Files.write(path, Arrays.asList(String.valueOf(Board.MAX_SIZE + 1)));
+			DataManager.setGameVersion(GameVersion.CUSTOM);
+			assertThrows(IOException.class, DataManager::getBoardScheme);
+		} finally {
+			Files.write(path, customBoard);
+			DataManager.setGameVersion(gameVersion);
+			DataManager.setBoardSize(boardSize);
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package tests;
+
+import main.game.Dawg;
+import main.game.DataManager;
+import main.game.PackedWordsTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DawgTest {
+
+	private Dawg dawg;
+
+	@BeforeEach
+	public void initDawg() {
+		dawg = new Dawg();
+		try {
+			dawg.loadWords(null);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	@Test
+	@DisplayName("Should properly add all words to the graph")
+	public void addAllWordsTest() {
+		assertEquals(dawg.getWordsCount(), 172820);
+		assertEquals(dawg.getWords().size(), 172820);
+	}
+
+	@Test
+	@DisplayName("Should properly search all words and prefixes in the graph")
+	public void searchWordTest() {
+		PackedWordsTree tree = new PackedWordsTree();
+		try {
+			tree.loadWords(null);
+			Path path = Paths.get(DataManager.DEFAULT_DICTIONARY_FILE);
+			BufferedReader br = Files.newBufferedReader(path);
+			String line;
+			while ((line = br.readLine()) != null) {
+				String word = line.toUpperCase();
+				assertTrue(dawg.searchWord(word));
+				for (int i = 1; i < word.length(); i++) {
+					String prefix = word.substring(0, i);
+					assertEquals(tree.searchWord(prefix), dawg.searchWord(prefix));
+					assertTrue(dawg.existsPath(prefix));
+				}
+			}
+			br.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+
+		assertFalse(dawg.searchWord("RECOI"));
+		assertFalse(dawg.searchWord("NAIMLES"));
+		assertFalse(dawg.searchWord("PEAR LIER"));
+		assertFalse(dawg.searchWord(""));
+		assertFalse(dawg.existsPath("QX"));
+	}
+
+	@Test
+	@DisplayName("Graph should be smaller than tree")
+	public void smallerThanTreeTest() {
+		PackedWordsTree tree = new PackedWordsTree();
+		try {
+			tree.loadWords(null);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+		assertTrue(dawg.getNodesCount() * 2 < tree.getNodesCount());
+	}
+
+	@Test
+	@DisplayName("Should properly add one word to the graph")
+	public void addWordTest() {
+		assertFalse(dawg.searchWord("KELASQC"));
+		assertTrue(dawg.addWord("KELASQC"));
+		assertFalse(dawg.addWord("KELASQC"));
+		assertFalse(dawg.addWord("down"));
+		assertEquals(dawg.getWordsCount(), 172821);
+		assertTrue(dawg.searchWord("KELASQC"));
+		assertTrue(dawg.searchWord("AAHED"));
+	}
+
+}
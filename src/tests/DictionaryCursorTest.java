@@ -0,0 +1,81 @@
+package tests;
+
+import main.game.DictionaryCursor;
+import main.game.DictionaryType;
+import main.game.WordsDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryCursorTest {
+
+	private static final String[] WORDS = {"A", "AB", "ABLE", "CARE", "CARED", "CAT", "SCARE", "ZOO"};
+
+	private static final String[] PATHS = {"", "A", "AB", "ABL", "C", "CA", "CAR", "CARES", "SC", "ZO", "ZOOS", "Q", "BL", "E"};
+
+	private WordsDictionary createDictionary(DictionaryType type) {
+		WordsDictionary dictionary = type.createDictionary();
+		for(String word : WORDS) {
+			dictionary.addWord(word);
+		}
+		return dictionary;
+	}
+
+	@Test
+	@DisplayName("Should walk the same words and paths as search methods in every dictionary")
+	public void cursorWalkTest() {
+		for(DictionaryType type : DictionaryType.values()) {
+			WordsDictionary dictionary = createDictionary(type);
+			DictionaryCursor cursor = dictionary.getCursor();
+
+			for(String path : PATHS) {
+				cursor.reset();
+				boolean exists = true;
+				for(int i=0; i<path.length() && exists; i++) {
+					exists = cursor.advance(path.charAt(i));
+				}
+				assertEquals(dictionary.existsPath(path), exists, type + ": " + path);
+				if(!exists) {
+					continue;
+				}
+				assertEquals(path.length(), cursor.getDepth(), type + ": " + path);
+				assertEquals(dictionary.searchWord(path), cursor.isTerminal(), type + ": " + path);
+
+				int expectedMask = 0;
+				for(char letter='A'; letter<='Z'; letter++) {
+					if(dictionary.existsPath(path + letter)) {
+						expectedMask |= 1 << (letter - 'A');
+					}
+				}
+				assertEquals(expectedMask, cursor.getChildrenMask(), type + ": " + path);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Should step back to previous letter and stay on failed advance")
+	public void cursorBackTest() {
+		for(DictionaryType type : DictionaryType.values()) {
+			DictionaryCursor cursor = createDictionary(type).getCursor();
+
+			cursor.back();
+			assertEquals(0, cursor.getDepth());
+			assertTrue(cursor.advance('C'));
+			assertTrue(cursor.advance('A'));
+			assertTrue(cursor.advance('R'));
+			assertTrue(cursor.advance('E'));
+			assertTrue(cursor.isTerminal());
+			assertFalse(cursor.advance('Q'));
+			assertEquals(4, cursor.getDepth());
+
+			cursor.back();
+			cursor.back();
+			assertFalse(cursor.isTerminal());
+			assertTrue(cursor.advance('T'));
+			assertTrue(cursor.isTerminal(), type.toString());
+			assertFalse(cursor.advance('['));
+		}
+	}
+
+}
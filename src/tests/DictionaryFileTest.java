@@ -0,0 +1,132 @@
+package tests;
+
+import main.game.DictionaryFile;
+import main.game.DictionaryType;
+import main.game.PackedWordsGraph;
+import main.game.WordsDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class DictionaryFileTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("Should compile dictionary and load it from compiled file")
+	public void compileAndLoadTest() throws IOException {
+		Path words = directory.resolve("words.txt");
+		Files.write(words, Arrays.asList("care", "cares", "cart", "dare", "dares"));
+		Path compiled = DictionaryFile.getCompiledPath(DictionaryType.DAWG, words.toString());
+
+		WordsDictionary dictionary = DictionaryFile.load(DictionaryType.DAWG, words.toString());
+		assertTrue(Files.exists(compiled));
+		assertTrue(DictionaryFile.isUpToDate(compiled, DictionaryType.DAWG, DictionaryFile.checksum(words)));
+		assertFalse(DictionaryFile.isUpToDate(compiled, DictionaryType.GADDAG, DictionaryFile.checksum(words)));
+		assertEquals(5, dictionary.getWordsCount());
+
+		long modified = Files.getLastModifiedTime(compiled).toMillis();
+		WordsDictionary mapped = DictionaryFile.load(DictionaryType.DAWG, words.toString());
+		assertEquals(modified, Files.getLastModifiedTime(compiled).toMillis());
+		assertEquals(5, mapped.getWordsCount());
+		assertTrue(mapped.searchWord("DARES"));
+		assertTrue(mapped.existsPath("CAR"));
+		assertFalse(mapped.searchWord("CAR"));
+		assertFalse(mapped.existsPath("CAX"));
+	}
+
+	@Test
+	@DisplayName("Should compile dictionary again when words file changes")
+	public void staleFileTest() throws IOException {
+		Path words = directory.resolve("words.txt");
+		Files.write(words, Arrays.asList("care", "dare"));
+		DictionaryFile.load(DictionaryType.GADDAG, words.toString());
+
+		Files.write(words, Arrays.asList("care", "dare", "bare"));
+		Path compiled = DictionaryFile.getCompiledPath(DictionaryType.GADDAG, words.toString());
+		assertFalse(DictionaryFile.isUpToDate(compiled, DictionaryType.GADDAG, DictionaryFile.checksum(words)));
+
+		WordsDictionary dictionary = DictionaryFile.load(DictionaryType.GADDAG, words.toString());
+		assertEquals(3, dictionary.getWordsCount());
+		assertTrue(dictionary.searchWord("BARE"));
+		assertTrue(DictionaryFile.isUpToDate(compiled, DictionaryType.GADDAG, DictionaryFile.checksum(words)));
+	}
+
+	@Test
+	@DisplayName("Should not map compiled file shorter than its header says")
+	public void truncatedFileTest() throws IOException {
+		Path words = directory.resolve("words.txt");
+		Files.write(words, Arrays.asList("care", "dare"));
+		DictionaryFile.load(DictionaryType.DAWG, words.toString());
+
+		Path compiled = DictionaryFile.getCompiledPath(DictionaryType.DAWG, words.toString());
+		try (FileChannel channel = FileChannel.open(compiled, StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 8);
+		}
+		PackedWordsGraph graph = (PackedWordsGraph) DictionaryType.DAWG.createDictionary();
+		assertThrows(IOException.class, () -> {
+			DictionaryFile.map(graph, compiled);
+		});
+
+		WordsDictionary dictionary = DictionaryFile.load(DictionaryType.DAWG, words.toString());
+		assertEquals(2, dictionary.getWordsCount());
+		assertTrue(DictionaryFile.isUpToDate(compiled, DictionaryType.DAWG, DictionaryFile.checksum(words)));
+	}
+
+	@Test
+	@DisplayName("Should not leave temporary files after compiling")
+	public void temporaryFilesTest() throws IOException {
+		Path words = directory.resolve("words.txt");
+		Files.write(words, Arrays.asList("care", "dare"));
+		DictionaryFile.load(DictionaryType.DAWG, words.toString());
+		DictionaryFile.load(DictionaryType.GADDAG, words.toString());
+
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(3, files.count());
+		}
+	}
+
+	@Test
+	@DisplayName("Should make compiled file readable by other users")
+	public void permissionsTest() throws IOException {
+		assumeTrue(Files.getFileStore(directory).supportsFileAttributeView(PosixFileAttributeView.class));
+		Path words = directory.resolve("words.txt");
+		Files.write(words, Arrays.asList("care", "dare"));
+		DictionaryFile.load(DictionaryType.DAWG, words.toString());
+
+		Path compiled = DictionaryFile.getCompiledPath(DictionaryType.DAWG, words.toString());
+		Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(compiled);
+		assertTrue(permissions.contains(PosixFilePermission.GROUP_READ));
+		assertTrue(permissions.contains(PosixFilePermission.OTHERS_READ));
+
+		Files.setPosixFilePermissions(compiled, PosixFilePermissions.fromString("rw-rw----"));
+		Files.write(words, Arrays.asList("care", "dare", "bare"));
+		DictionaryFile.load(DictionaryType.DAWG, words.toString());
+		assertEquals(PosixFilePermissions.fromString("rw-rw----"), Files.getPosixFilePermissions(compiled));
+	}
+
+	@Test
+	@DisplayName("Should throw Exception when words file not exists")
+	public void missingFileTest() {
+		assertThrows(IOException.class, () -> {
+			DictionaryFile.load(DictionaryType.DAWG, directory.resolve("fileThatNotExists.txt").toString());
+		});
+	}
+
+}
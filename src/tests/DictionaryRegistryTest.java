@@ -0,0 +1,58 @@
+package tests;
+
+import main.game.DictionaryRegistry;
+import main.game.DictionaryType;
+import main.game.WordsDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryRegistryTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("Should return same dictionary for same file and structure")
+	public void sameInstanceTest() throws IOException {
+		Path words = directory.resolve("words.txt");
+		Files.write(words, Arrays.asList("care", "dare"));
+
+		WordsDictionary first = DictionaryRegistry.getDictionary(DictionaryType.DAWG, words.toString());
+		WordsDictionary second = DictionaryRegistry.getDictionary(DictionaryType.DAWG, words.toAbsolutePath().toString());
+		WordsDictionary tree = DictionaryRegistry.getDictionary(DictionaryType.WORDS_TREE, words.toString());
+
+		assertSame(first, second);
+		assertNotSame(first, tree);
+		assertTrue(first.searchWord("CARE"));
+		assertTrue(tree.searchWord("DARE"));
+	}
+
+	@Test
+	@DisplayName("Shared dictionary should not be changed")
+	public void immutableTest() throws IOException {
+		Path words = directory.resolve("words.txt");
+		Files.write(words, Arrays.asList("care", "dare"));
+		WordsDictionary dictionary = DictionaryRegistry.getDictionary(DictionaryType.PACKED_WORDS_TREE, words.toString());
+
+		assertThrows(UnsupportedOperationException.class, () -> dictionary.addWord("BARE"));
+		assertThrows(UnsupportedOperationException.class, () -> dictionary.loadWords(words.toString()));
+		assertEquals(2, dictionary.getWordsCount());
+	}
+
+	@Test
+	@DisplayName("Should throw Exception when words file not exists")
+	public void missingFileTest() {
+		assertThrows(IOException.class, () -> {
+			DictionaryRegistry.getDictionary(DictionaryType.DAWG, directory.resolve("fileThatNotExists.txt").toString());
+		});
+	}
+
+}
@@ -0,0 +1,123 @@
+package tests;
+
+import main.game.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndgameTest {
+
+	@BeforeEach
+	public void initGame() {
+		DataManager.setGameVersion(GameVersion.SCRABBLE_15x15);
+		DataManager.setBoardSize(15);
+	}
+
+	private TestGame createGame(List<Tile> placed) throws IOException {
+		TestGame game = new TestGame();
+		game.placeWord("HOUSE", 7, 5);
+		for(int i=0; i<placed.size(); ) {
+			int count = placed.get(i).getRow();
+			game.place(placed.subList(i + 1, i + 1 + count));
+			i += count + 1;
+		}
+		return game;
+	}
+
+	/**
+	 * Search every line of play. Placed moves are kept as count marker (row) followed by tiles.
+	 */
+	private int bruteForce(List<Tile> placed, List<Tile> rack, List<Tile> opponentRack, int passes) throws IOException {
+		if(rack.isEmpty()) {
+			return 0;
+		}
+		if(passes == 2 * DataManager.MAX_PASSES) {
+			return opponentRack.stream().mapToInt(Tile::getPoints).sum() - rack.stream().mapToInt(Tile::getPoints).sum();
+		}
+		int best = -bruteForce(placed, opponentRack, rack, passes + 1);
+		TestGame game = createGame(placed);
+		for(Move move : new MoveGenerator(game).generateMoves(rack)) {
+			List<Tile> left = new ArrayList<>(rack);
+			move.getTiles().forEach(tile -> left.remove(tile.getCopyOf()));
+			List<Tile> next = new ArrayList<>(placed);
+			Tile marker = new Tile('A', 0);
+			marker.setRow(move.getTiles().size());
+			next.add(marker);
+			next.addAll(move.getTiles());
+			best = Math.max(best, move.getPoints() - bruteForce(next, opponentRack, left, 0));
+		}
+		return best;
+	}
+
+	@Test
+	@DisplayName("Should find value of endgame equal to full game tree search")
+	public void valueTest() throws IOException {
+		String[][] racks = {{"AT", "ON"}, {"RE", "SI"}, {"DOG", "A"}, {"X", "EA"}};
+		for(String[] letters : racks) {
+			TestGame game = createGame(new ArrayList<>());
+			List<Tile> rack = TestGame.createRack(letters[0]);
+			List<Tile> opponentRack = TestGame.createRack(letters[1]);
+
+			Endgame endgame = new Endgame(game);
+			BotSearch search = new BotSearch(60_000);
+			Move move = endgame.solve(rack, opponentRack, 0, search);
+
+			int expected = bruteForce(new ArrayList<>(), rack, opponentRack, 0);
+			assertEquals(expected, endgame.getValue(), letters[0] + "/" + letters[1]);
+			assertTrue(endgame.getDepth() < Endgame.MAX_DEPTH);
+			assertTrue(search.getEndgameDepth() > 0);
+			assertEquals(letters[0].length(), rack.size());
+			assertEquals(letters[1].length(), opponentRack.size());
+
+			List<Move> variation = endgame.getPrincipalVariation();
+			assertFalse(variation.isEmpty());
+			if(move == null) {
+				assertTrue(variation.get(0).getTiles().isEmpty());
+			} else {
+				assertSame(move, variation.get(0));
+				assertEquals(move.getPoints(), game.checkMove(new Move(new ArrayList<>(move.getTiles()))));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Should return best move of last finished depth when search is stopped")
+	public void stopTest() throws IOException {
+		TestGame game = createGame(new ArrayList<>());
+		List<Tile> rack = TestGame.createRack("AEINRST");
+		List<Tile> opponentRack = TestGame.createRack("DEGLOPU");
+
+		BotSearch search = new BotSearch(200);
+		Endgame endgame = new Endgame(game);
+		Move move = endgame.solve(rack, opponentRack, 0, search);
+
+		assertNotNull(move);
+		assertTrue(search.getElapsedTime() < 2_000);
+		assertEquals(move.getPoints(), game.checkMove(new Move(new ArrayList<>(move.getTiles()))));
+	}
+
+	@Test
+	@DisplayName("Should know opponent rack in Solver only when few tiles are unseen")
+	public void solverRackTest() throws IOException {
+		Solver solver = new Solver();
+		PlayerBot player = new PlayerBot("Bot", null, DataManager.MAX_DIFFICULTY);
+		player.setRack(TestGame.createRack("AB"));
+		assertNull(solver.getEndgameRack(player));
+
+		/* Put all tiles but 5 on rack, so opponent has the remaining tiles */
+		List<Tile> rack = new ArrayList<>(solver.getTileBag().getTiles());
+		List<Tile> unseen = new ArrayList<>(rack.subList(0, 5));
+		rack.removeAll(unseen);
+		player.setRack(rack);
+		List<Tile> opponentRack = solver.getEndgameRack(player);
+		assertNotNull(opponentRack);
+		assertEquals(5, opponentRack.size());
+	}
+
+}
@@ -0,0 +1,100 @@
+package tests;
+
+import main.game.DataManager;
+import main.game.Gaddag;
+import main.game.PackedWordsTree;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GaddagTest {
+
+	private static Gaddag gaddag;
+
+	@BeforeAll
+	public static void initGaddag() {
+		gaddag = new Gaddag();
+		try {
+			gaddag.loadWords(null);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	@Test
+	@DisplayName("Should properly add all words to the graph")
+	public void addAllWordsTest() {
+		assertEquals(gaddag.getWordsCount(), 172820);
+		assertEquals(gaddag.getWords().size(), 172820);
+	}
+
+	@Test
+	@DisplayName("Should properly search all words and prefixes in the graph")
+	public void searchWordTest() {
+		PackedWordsTree tree = new PackedWordsTree();
+		try {
+			tree.loadWords(null);
+			Path path = Paths.get(DataManager.DEFAULT_DICTIONARY_FILE);
+			BufferedReader br = Files.newBufferedReader(path);
+			String line;
+			while ((line = br.readLine()) != null) {
+				String word = line.toUpperCase();
+				assertTrue(gaddag.searchWord(word));
+				for (int i = 1; i < word.length(); i++) {
+					String prefix = word.substring(0, i);
+					assertEquals(tree.searchWord(prefix), gaddag.searchWord(prefix));
+					assertTrue(gaddag.existsPath(prefix));
+				}
+			}
+			br.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+
+		assertFalse(gaddag.searchWord("RECOI"));
+		assertFalse(gaddag.searchWord("NAIMLES"));
+		assertFalse(gaddag.searchWord(""));
+		assertFalse(gaddag.existsPath("QX"));
+		assertFalse(gaddag.existsPath("INGCAR"));
+	}
+
+	@Test
+	@DisplayName("Should walk word from middle letter in both directions")
+	public void bidirectionalWalkTest() {
+		/* "CARE" from letter 'R': go left through "R", "A", "C", then separator and "E" */
+		int node = Gaddag.ROOT;
+		for (char letter : "RAC".toCharArray()) {
+			node = gaddag.getChild(node, letter - 'A');
+			assertNotEquals(-1, node);
+		}
+		node = gaddag.getSeparatorChild(node);
+		assertNotEquals(-1, node);
+		assertFalse(gaddag.isLastLetter(node));
+		node = gaddag.getChild(node, 'E' - 'A');
+		assertNotEquals(-1, node);
+		assertTrue(gaddag.isLastLetter(node));
+	}
+
+	@Test
+	@DisplayName("Should properly add words to the graph")
+	public void addWordTest() {
+		Gaddag small = new Gaddag();
+		assertTrue(small.addWord("CARE"));
+		assertTrue(small.addWord("CARES"));
+		assertFalse(small.addWord("CARE"));
+		assertFalse(small.addWord("care"));
+		assertEquals(small.getWordsCount(), 2);
+		assertTrue(small.searchWord("CARES"));
+		assertTrue(small.existsPath("CAR"));
+		assertFalse(small.searchWord("CAR"));
+	}
+
+}
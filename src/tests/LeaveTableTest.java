@@ -0,0 +1,104 @@
+package tests;
+
+import main.game.LeaveTable;
+import main.game.Tile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class LeaveTableTest {
+
+	private static LeaveTable table;
+
+	@TempDir
+	Path directory;
+
+	@BeforeAll
+	public static void generateTable() {
+		table = LeaveTable.generate();
+	}
+
+	private List<Tile> createTiles(String letters) {
+		List<Tile> tiles = new ArrayList<>();
+		for(char letter : letters.toCharArray()) {
+			tiles.add(new Tile(letter, 1));
+		}
+		return tiles;
+	}
+
+	private int getValue(String letters) {
+		return table.getValue(LeaveTable.getRackKey(createTiles(letters)));
+	}
+
+	@Test
+	@DisplayName("Should have value for every leave up to six tiles")
+	public void entriesTest() {
+		/* Multisets of up to 6 tiles of 27 kinds: C(33, 6) */
+		assertEquals(1107568, table.getEntriesCount());
+		assertEquals(0, getValue(""));
+		assertEquals(getValue("RETS"), getValue("STER"));
+	}
+
+	@Test
+	@DisplayName("Should value good leaves higher than bad ones")
+	public void valuesTest() {
+		assertTrue(getValue("S") > getValue("V"));
+		assertTrue(getValue("*") > getValue("S"));
+		assertTrue(getValue("ERS") > getValue("UUV"));
+		assertTrue(getValue("QU") > getValue("Q"));
+		assertTrue(getValue("AEIOU") < getValue("AERST"));
+	}
+
+	@Test
+	@DisplayName("Should update rack key when tile is added or removed")
+	public void rackKeyTest() {
+		long key = LeaveTable.getRackKey(createTiles("AERST"));
+		key -= LeaveTable.getTileKey('T' - 'A');
+		key += LeaveTable.getTileKey(LeaveTable.BLANK);
+		assertEquals(LeaveTable.getRackKey(createTiles("AERS*")), key);
+		assertEquals(getValue("AERS*"), table.getValue(key));
+	}
+
+	@Test
+	@DisplayName("Should save table to binary file and load the same values")
+	public void saveAndLoadTest() throws IOException {
+		Path path = directory.resolve("leaves.bin");
+		table.save(path);
+		assertEquals(12 + 2L * table.getEntriesCount(), Files.size(path));
+
+		LeaveTable loaded = LeaveTable.load(path);
+		for(String leave : new String[]{"", "Q", "ERS", "AEIOU", "*SZXQJ"}) {
+			long key = LeaveTable.getRackKey(createTiles(leave));
+			assertEquals(table.getValue(key), loaded.getValue(key));
+		}
+
+		Files.write(path, new byte[]{1, 2, 3});
+		assertThrows(IOException.class, () -> LeaveTable.load(path));
+	}
+
+	@Test
+	@DisplayName("Should make saved table readable by other users")
+	public void permissionsTest() throws IOException {
+		assumeTrue(Files.getFileStore(directory).supportsFileAttributeView(PosixFileAttributeView.class));
+		Path path = directory.resolve("leaves.bin");
+		table.save(path);
+
+		Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(path);
+		assertTrue(permissions.contains(PosixFilePermission.GROUP_READ));
+		assertTrue(permissions.contains(PosixFilePermission.OTHERS_READ));
+	}
+
+}
@@ -0,0 +1,133 @@
+package tests;
+
+import main.game.Move;
+import main.game.MoveCollector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveCollectorTest {
+
+	private Move createMove(int points) {
+		Move move = new Move();
+		move.setPoints(points);
+		return move;
+	}
+
+	@Test
+	@DisplayName("Should keep only best moves sorted in descending order")
+	public void keepBestTest() {
+		MoveCollector collector = new MoveCollector(3);
+		int[] points = {5, 12, 1, 30, 7, 12, 2};
+		for(int i=0; i<points.length; i++) {
+			if(collector.accepts(points[i])) {
+				collector.add(i, createMove(points[i]));
+			}
+		}
+
+		List<Move> moves = collector.getMoves();
+		assertEquals(3, moves.size());
+		assertEquals(30, moves.get(0).getPoints());
+		assertEquals(12, moves.get(1).getPoints());
+		assertEquals(12, moves.get(2).getPoints());
+		assertEquals(points.length, collector.getOfferedCount());
+		assertFalse(collector.accepts(12));
+		assertTrue(collector.accepts(13));
+	}
+
+	@Test
+	@DisplayName("Should keep move with same placement once")
+	public void duplicateTest() {
+		MoveCollector collector = new MoveCollector(5);
+		assertTrue(collector.add(42, createMove(10)));
+		assertFalse(collector.add(42, createMove(10)));
+		assertTrue(collector.add(43, createMove(10)));
+		assertTrue(collector.contains(42));
+		assertEquals(2, collector.size());
+	}
+
+	@Test
+	@DisplayName("Should find kept placements after worst moves were replaced")
+	public void replacedHashesTest() {
+		MoveCollector collector = new MoveCollector(16);
+		Random random = new Random(13);
+		for(int i=0; i<2000; i++) {
+			/* Few hashes, so the same placement is often offered again */
+			long hash = random.nextInt(64) * 0x100000001L;
+			int points = (int) (hash % 97);
+			if(collector.accepts(points)) {
+				collector.add(hash, createMove(points));
+			}
+		}
+		Set<Long> kept = new HashSet<>();
+		for(Move move : collector.getMoves()) {
+			kept.add(move.getPoints() + 0L);
+		}
+		assertEquals(16, kept.size());
+		for(long i=0; i<64; i++) {
+			long hash = i * 0x100000001L;
+			assertEquals(kept.contains(hash % 97), collector.contains(hash));
+		}
+	}
+
+	@Test
+	@DisplayName("Should keep the best move of every points value beside the best moves")
+	public void levelsTest() {
+		MoveCollector collector = new MoveCollector(2, true);
+		int[] points = {5, 12, 1, 30, 5, 12, 2};
+		int[] scores = {50, 120, 10, 300, 70, 110, 20};
+		for(int i=0; i<points.length; i++) {
+			if(collector.accepts(points[i], scores[i])) {
+				collector.add(i, scores[i], createMove(points[i]));
+			}
+		}
+		assertEquals(2, collector.getMoves().size());
+
+		List<Move> levels = collector.getLevelMoves();
+		int[] expected = {30, 12, 5, 2, 1};
+		assertEquals(expected.length, levels.size());
+		for(int i=0; i<expected.length; i++) {
+			assertEquals(expected[i], levels.get(i).getPoints());
+		}
+		/* Move with 5 points and better score replaced the first one */
+		assertFalse(collector.accepts(5, 60));
+		assertTrue(collector.accepts(5, 71));
+		assertTrue(collector.accepts(100, 0));
+
+		MoveCollector merged = new MoveCollector(2, true);
+		merged.add(100, 40, createMove(4));
+		merged.addAll(collector);
+		assertEquals(6, merged.getLevelMoves().size());
+
+		collector.clear();
+		assertTrue(collector.getLevelMoves().isEmpty());
+		assertTrue(new MoveCollector(2).getLevelMoves().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should merge collectors and remove moves on clear")
+	public void mergeTest() {
+		MoveCollector first = new MoveCollector(2);
+		MoveCollector second = new MoveCollector(2);
+		first.add(1, createMove(4));
+		first.add(2, createMove(9));
+		second.add(2, createMove(9));
+		second.add(3, createMove(6));
+
+		first.addAll(second);
+		List<Move> moves = first.getMoves();
+		assertEquals(9, moves.get(0).getPoints());
+		assertEquals(6, moves.get(1).getPoints());
+
+		first.clear();
+		assertEquals(0, first.size());
+		assertTrue(first.getMoves().isEmpty());
+	}
+
+}
@@ -0,0 +1,305 @@
+package tests;
+
+import main.game.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+	private TestGame game;
+
+	private MoveBuffer buffer = new MoveBuffer();
+
+	@BeforeEach
+	public void initGame() throws IOException {
+		DataManager.setGameVersion(GameVersion.SCRABBLE_15x15);
+		DataManager.setBoardSize(15);
+		game = new TestGame();
+	}
+
+	private String getKey(Move move) {
+		List<String> placements = new ArrayList<>();
+		for(Tile tile : move.getTiles()) {
+			placements.add(tile.getRow() + ":" + tile.getColumn() + ":" + tile.getLetter() + (tile.getPoints() == 0 ? "*" : ""));
+		}
+		Collections.sort(placements);
+		return String.join(",", placements);
+	}
+
+	private String getKey(String... placements) {
+		Arrays.sort(placements);
+		return String.join(",", placements);
+	}
+
+	private Set<String> checkGeneratedMoves(List<Tile> rack) {
+		List<Move> moves = new MoveGenerator(game).generateMoves(rack);
+		Set<String> keys = new HashSet<>();
+		for(Move move : moves) {
+			int points = move.getPoints();
+			buffer.set(move);
+			assertEquals(points, game.checkMove(new Move(new ArrayList<>(move.getTiles()))), getKey(move));
+			assertEquals(points, game.checkMove(buffer), getKey(move));
+			assertTrue(keys.add(getKey(move)), "Duplicated move " + getKey(move));
+			for(Tile tile : move.getTiles()) {
+				assertTrue(rack.contains(tile.getCopyOf()));
+			}
+		}
+		return keys;
+	}
+
+	@Test
+	@DisplayName("Should generate only valid first moves covering begin square")
+	public void firstMoveTest() {
+		Set<String> keys = checkGeneratedMoves(TestGame.createRack("CARTEDS"));
+		assertFalse(keys.isEmpty());
+		assertTrue(keys.contains(getKey("7:7:C", "7:8:A", "7:9:R", "7:10:T")));
+		assertTrue(keys.contains(getKey("5:7:C", "6:7:A", "7:7:R", "8:7:T")));
+		for(String key : keys) {
+			assertTrue(key.contains("7:7:"));
+		}
+	}
+
+	@Test
+	@DisplayName("Should generate every valid move with one or two tiles and check moves from buffer same way")
+	public void completenessTest() {
+		game.placeWord("QUIET", 7, 5, true);
+		game.placeWord("UNDO", 7, 6, false);
+		game.placeWord("AT", 6, 9, false);
+		List<Tile> rack = TestGame.createRack("SEAR*TO");
+
+		Set<String> generated = checkGeneratedMoves(rack);
+		Set<String> expected = new HashSet<>();
+		int size = game.getBoardSize();
+
+		/* Brute force: every placement of one or two rack tiles in a row or column */
+		for(int first=0; first<size*size; first++) {
+			for(int second=first; second<size*size; second++) {
+				int row1 = first / size, column1 = first % size;
+				int row2 = second / size, column2 = second % size;
+				if(!game.getBoard().isEmpty(row1, column1) || !game.getBoard().isEmpty(row2, column2)
+						|| (row1 != row2 && column1 != column2)) {
+					continue;
+				}
+				for(int t1=0; t1<rack.size(); t1++) {
+					for(int t2=0; t2<rack.size(); t2++) {
+						if(first != second && t1 == t2) {
+							continue;
+						}
+						for(char l1='A'; l1<='Z'; l1++) {
+							if(!rack.get(t1).isStar() && rack.get(t1).getLetter() != l1) {
+								continue;
+							}
+							for(char l2='A'; l2<='Z'; l2++) {
+								if(first == second && l2 != 'A') {
+									break;
+								}
+								if(first != second && !rack.get(t2).isStar() && rack.get(t2).getLetter() != l2) {
+									continue;
+								}
+								Move move = new Move();
+								move.addTile(createTile(rack.get(t1), l1, row1, column1));
+								if(first != second) {
+									move.addTile(createTile(rack.get(t2), l2, row2, column2));
+								}
+								buffer.set(move);
+								int points = game.checkMove(move);
+								assertEquals(points, game.checkMove(buffer), getKey(move));
+								if(points >= 0) {
+									expected.add(getKey(move));
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+
+		Set<String> generatedSmall = new HashSet<>();
+		for(String key : generated) {
+			if(key.split(",").length <= 2) {
+				generatedSmall.add(key);
+			}
+		}
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, generatedSmall);
+	}
+
+	@Test
+	@DisplayName("Should keep in collector the best generated moves with same points as full list")
+	public void collectorTest() {
+		game.placeWord("QUIET", 7, 5, true);
+		game.placeWord("UNDO", 7, 6, false);
+		List<Tile> rack = TestGame.createRack("SEAR*TO");
+
+		List<Move> all = new MoveGenerator(game).generateMoves(rack);
+		all.sort((first, second) -> Integer.compare(second.getPoints(), first.getPoints()));
+
+		MoveCollector collector = new MoveCollector(20);
+		new MoveGenerator(game).generateMoves(rack, collector);
+		List<Move> kept = collector.getMoves();
+
+		assertEquals(20, kept.size());
+		assertEquals(all.size(), collector.getOfferedCount());
+		Set<String> keys = new HashSet<>();
+		for(int i=0; i<kept.size(); i++) {
+			assertEquals(all.get(i).getPoints(), kept.get(i).getPoints());
+			assertTrue(keys.add(getKey(kept.get(i))));
+		}
+	}
+
+	private Set<String> getWords(List<Tile> rack) {
+		Set<String> words = new HashSet<>();
+		for(Move move : new MoveGenerator(game).generateMoves(rack)) {
+			words.add(getKey(move).replace("*", ""));
+		}
+		return words;
+	}
+
+	@Test
+	@DisplayName("Should find with blank every move of racks with blank replaced by any letter")
+	public void blankTest() {
+		game.placeWord("QUIET", 7, 5, true);
+		game.placeWord("UNDO", 7, 6, false);
+
+		Set<String> expected = new HashSet<>();
+		for(char letter='A'; letter<='Z'; letter++) {
+			expected.addAll(getWords(TestGame.createRack("SEAT" + letter)));
+		}
+		Set<String> generated = getWords(TestGame.createRack("SEAT*"));
+		assertEquals(expected, generated);
+		checkGeneratedMoves(TestGame.createRack("SE**T"));
+	}
+
+	@Test
+	@DisplayName("Should keep same moves when lines are searched by many threads")
+	public void parallelTest() {
+		game.placeWord("QUIET", 7, 5, true);
+		game.placeWord("UNDO", 7, 6, false);
+		List<Tile> rack = TestGame.createRack("SEAR*TO");
+
+		MoveCollector sequential = new MoveCollector(50);
+		new ParallelMoveGenerator(game, 1).generateMoves(rack, sequential);
+		MoveCollector parallel = new MoveCollector(50);
+		new ParallelMoveGenerator(game, 3).generateMoves(rack, parallel);
+
+		assertEquals(sequential.getOfferedCount(), parallel.getOfferedCount());
+		List<Move> expected = sequential.getMoves();
+		List<Move> kept = parallel.getMoves();
+		assertEquals(expected.size(), kept.size());
+		for(int i=0; i<kept.size(); i++) {
+			assertEquals(expected.get(i).getPoints(), kept.get(i).getPoints());
+		}
+	}
+
+	@Test
+	@DisplayName("Should publish progress of search and finish when all lines are searched")
+	public void searchTest() {
+		game.placeWord("QUIET", 7, 5, true);
+		List<Tile> rack = TestGame.createRack("SEARTO*");
+		List<Move> all = new MoveGenerator(game).generateMoves(rack);
+		int bestPoints = all.stream().mapToInt(Move::getPoints).max().getAsInt();
+
+		BotSearch search = new BotSearch(60000);
+		MoveCollector collector = new MoveCollector(10);
+		new ParallelMoveGenerator(game, 2).generateMoves(rack, collector, search);
+
+		assertTrue(search.isExhausted());
+		assertEquals(1.0, search.getProgress());
+		assertEquals(all.size(), search.getMovesEvaluated());
+		assertEquals(bestPoints, search.getBestMove().getPoints());
+	}
+
+	@Test
+	@DisplayName("Should stop search after cancel or deadline")
+	public void stopSearchTest() {
+		game.placeWord("QUIET", 7, 5, true);
+		List<Tile> rack = TestGame.createRack("SEARTO*");
+
+		BotSearch cancelled = new BotSearch(60000);
+		cancelled.cancel();
+		MoveCollector collector = new MoveCollector(10);
+		new ParallelMoveGenerator(game, 1).generateMoves(rack, collector, cancelled);
+		assertFalse(cancelled.isExhausted());
+		assertEquals(0, cancelled.getMovesEvaluated());
+		assertEquals(0, collector.size());
+
+		BotSearch expired = new BotSearch(0);
+		new ParallelMoveGenerator(game, 1).generateMoves(rack, collector, expired);
+		assertEquals(0, expired.getProgress());
+	}
+
+	@Test
+	@DisplayName("Should rank moves by points and value of tiles left on rack")
+	public void leaveTest() {
+		game.placeWord("QUIET", 7, 5, true);
+		List<Tile> rack = TestGame.createRack("SEARTOV");
+		LeaveTable leaves = LeaveTable.generate();
+
+		MoveGenerator generator = new MoveGenerator(game);
+		generator.setLeaveTable(leaves);
+		MoveCollector collector = new MoveCollector(30);
+		generator.generateMoves(rack, collector);
+
+		int lastEquity = Integer.MAX_VALUE;
+		for(Move move : collector.getMoves()) {
+			List<Tile> leave = new ArrayList<>(rack);
+			move.getTiles().forEach(tile -> leave.remove(tile.getCopyOf()));
+			int equity = move.getPoints() * LeaveTable.SCALE + leaves.getValue(LeaveTable.getRackKey(leave));
+			assertTrue(equity <= lastEquity);
+			lastEquity = equity;
+		}
+	}
+
+	@Test
+	@DisplayName("Should take back applied moves with board, cross-checks, points and rack")
+	public void applyUndoTest() {
+		game.placeWord("QUIET", 7, 5, true);
+		Player player = new PlayerHuman("Player", null);
+		player.setRack(TestGame.createRack("SEARTOV"));
+		List<Tile> rack = new ArrayList<>(player.getRack());
+		Set<String> expected = new HashSet<>();
+		new MoveGenerator(game).generateMoves(rack).forEach(move -> expected.add(getKey(move)));
+
+		for(Move move : new MoveGenerator(game).generateMoves(player.getRack()).subList(0, 20)) {
+			int points = game.applyMove(move, player);
+			assertEquals(move.getPoints(), points);
+			assertEquals(points, player.getPoints());
+			assertEquals(rack.size() - move.getTiles().size(), player.getRack().size());
+			assertEquals(1, game.getUndoCount());
+
+			List<Move> replies = new MoveGenerator(game).generateMoves(player.getRack());
+			if(!replies.isEmpty()) {
+				game.applyMove(replies.get(0), player);
+				game.undoMove();
+			}
+			game.undoMove();
+
+			assertEquals(0, game.getUndoCount());
+			assertEquals(0, player.getPoints());
+			assertEquals(rack, player.getRack());
+			for(Tile tile : move.getTiles()) {
+				assertNull(game.getTile(tile.getRow(), tile.getColumn()));
+			}
+			Set<String> generated = new HashSet<>();
+			new MoveGenerator(game).generateMoves(player.getRack()).forEach(other -> generated.add(getKey(other)));
+			assertEquals(expected, generated);
+		}
+		assertThrows(IllegalStateException.class, () -> game.undoMove());
+	}
+
+	private Tile createTile(Tile rackTile, char letter, int row, int column) {
+		Tile tile = new Tile(rackTile);
+		tile.setLetter(letter);
+		tile.setRow(row);
+		tile.setColumn(column);
+		tile.setCopyOf(rackTile);
+		return tile;
+	}
+
+}
@@ -0,0 +1,165 @@
+package tests;
+
+import main.game.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NormalGameTest {
+
+	@Test
+	@DisplayName("Should play bot game to the end without user interface")
+	public void headlessGameTest() throws IOException {
+		DataManager.setGameVersion(GameVersion.SCRABBLE_15x15);
+		DataManager.setBoardSize(15);
+
+		List<Player> players = new ArrayList<>();
+		players.add(new PlayerBot("Bot 1", "0xff0000ff", DataManager.MAX_DIFFICULTY));
+		players.add(new PlayerBot("Bot 2", "0x0000ffff", DataManager.MAX_DIFFICULTY));
+
+		int[] events = new int[3];
+		NormalGame game = new NormalGame(players, new GameListener() {
+			@Override
+			public void onBotMove(Player player, Move move, int points) {
+				assertTrue(points > 0);
+				events[0]++;
+			}
+
+			@Override
+			public void onBotPass(Player player) {
+				events[1]++;
+			}
+
+			@Override
+			public void onGameEnded() {
+				events[2]++;
+			}
+		});
+		game.continueGame();
+
+		assertEquals(GameState.ENDED, game.getCurrentGameState());
+		assertEquals(1, events[2]);
+		assertTrue(events[0] > 0);
+		assertTrue(game.isFirstMoveDone());
+		assertTrue(players.get(0).getPoints() > 0 || players.get(1).getPoints() > 0);
+	}
+
+	@Test
+	@DisplayName("Should choose valid bot move by simulation of opponent replies")
+	public void simulationTest() throws IOException {
+		DataManager.setGameVersion(GameVersion.SCRABBLE_15x15);
+		DataManager.setBoardSize(15);
+
+		PlayerBot bot = new PlayerBot("Bot 1", "0xff0000ff", DataManager.MAX_DIFFICULTY);
+		PlayerBot opponent = new PlayerBot("Bot 2", "0x0000ffff", DataManager.MAX_DIFFICULTY);
+		List<Player> players = new ArrayList<>();
+		players.add(bot);
+		players.add(opponent);
+		NormalGame game = new NormalGame(players, new GameListener() {});
+		bot.refillRack();
+		opponent.refillRack();
+		bot.setParallelism(2);
+		bot.setStrategy(BotStrategy.SIMULATION);
+
+		assertEquals(DataManager.RACK_SIZE + opponent.getTileBag().getRemainingTilesCount(),
+				game.getOpponentBag(bot).getRemainingTilesCount());
+
+		List<Tile> rack = new ArrayList<>(bot.getRack());
+		BotSearch search = new BotSearch(500);
+		Move move = bot.getMove(search);
+
+		assertNotNull(move);
+		assertTrue(search.isFinished());
+		assertTrue(search.getSimulationsCount() > 0);
+		assertTrue(search.getSimulationsPerSecond() > 0);
+		assertTrue(game.checkMove(move) > 0);
+		assertEquals(DataManager.RACK_SIZE - move.getTiles().size(), bot.getRack().size());
+		for(Tile tile : move.getTiles()) {
+			assertTrue(rack.contains(tile.getCopyOf()));
+		}
+	}
+
+	private String playFirstMove(long seed) throws IOException {
+		List<Player> players = new ArrayList<>();
+		players.add(new PlayerBot("Bot 1", "0xff0000ff", DataManager.MAX_DIFFICULTY));
+		players.add(new PlayerBot("Bot 2", "0x0000ffff", DataManager.MAX_DIFFICULTY));
+		NormalGame game = new NormalGame(players, new GameListener() {}, seed);
+		assertEquals(seed, game.getSeed());
+		StringBuilder racks = new StringBuilder();
+		for(Player player : players) {
+			player.refillRack();
+			player.getRack().forEach(tile -> racks.append(tile.getLetter()));
+			racks.append(' ');
+		}
+		Move move = ((PlayerBot) players.get(0)).getMove(new BotSearch(10000));
+		move.getTiles().forEach(tile -> racks.append(tile.getLetter()).append(tile.getRow()).append(tile.getColumn()));
+		return racks.toString();
+	}
+
+	@Test
+	@DisplayName("Should deal the same racks and bot move in games with the same seed")
+	public void seedTest() throws IOException {
+		DataManager.setGameVersion(GameVersion.SCRABBLE_15x15);
+		DataManager.setBoardSize(15);
+
+		assertEquals(playFirstMove(24), playFirstMove(24));
+		assertNotEquals(playFirstMove(24), playFirstMove(25));
+	}
+
+	@Test
+	@DisplayName("Should choose points of low difficulty bot move from all found moves")
+	public void difficultyTest() throws IOException {
+		DataManager.setGameVersion(GameVersion.SCRABBLE_15x15);
+		DataManager.setBoardSize(15);
+
+		for(int difficulty : new int[] {1, 5, DataManager.MAX_DIFFICULTY}) {
+			PlayerBot bot = new PlayerBot("Bot 1", "0xff0000ff", difficulty);
+			bot.setStrategy(BotStrategy.POINTS);
+			List<Player> players = new ArrayList<>();
+			players.add(bot);
+			players.add(new PlayerBot("Bot 2", "0x0000ffff", DataManager.MAX_DIFFICULTY));
+			NormalGame game = new NormalGame(players, new GameListener() {}, 13);
+			bot.refillRack();
+
+			/* Distinct points of all legal moves, best first */
+			TreeSet<Integer> points = new TreeSet<>(Comparator.reverseOrder());
+			for(Move move : new MoveGenerator(game).generateMoves(bot.getRack())) {
+				points.add(move.getPoints());
+			}
+			List<Integer> levels = new ArrayList<>(points);
+			int index = Math.min(levels.size() - 1,
+					(DataManager.MAX_DIFFICULTY - difficulty) * levels.size() / DataManager.MAX_DIFFICULTY);
+
+			Move move = bot.getMove(new BotSearch(10000));
+			assertEquals((int) levels.get(index), move.getPoints(), "difficulty " + difficulty);
+
+			/* Only bot with max difficulty simulates */
+			if(difficulty < DataManager.MAX_DIFFICULTY) {
+				bot.setStrategy(BotStrategy.SIMULATION);
+				bot.getRack().clear();
+				bot.refillRack();
+				BotSearch search = new BotSearch(10000);
+				bot.getMove(search);
+				assertEquals(0, search.getSimulationsCount());
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Should finish bot search when move search fails")
+	public void failedSearchTest() {
+		/* Bot without game can't search */
+		PlayerBot bot = new PlayerBot("Bot", "0xff0000ff", 1);
+		BotSearch search = new BotSearch(10000);
+		assertThrows(NullPointerException.class, () -> bot.getMove(search));
+		assertTrue(search.isFinished());
+	}
+
+}
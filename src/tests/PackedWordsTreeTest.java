@@ -0,0 +1,114 @@
+package tests;
+
+import main.game.DataManager;
+import main.game.PackedWordsTree;
+import main.game.WordsTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedWordsTreeTest {
+
+	private PackedWordsTree tree;
+
+	@BeforeEach
+	public void initPackedWordsTree() {
+		tree = new PackedWordsTree();
+		try {
+			tree.loadWords(null);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	@Test
+	@DisplayName("Should properly add all words to the tree")
+	public void addAllWordsTest() {
+		assertEquals(tree.getWordsCount(), 172820);
+	}
+
+	@Test
+	@DisplayName("Should properly add words to the loaded tree")
+	public void addWordTest() {
+		assertFalse(tree.searchWord("KELASQC"));
+		assertFalse(tree.existsPath("KELA"));
+		assertTrue(tree.addWord("KELASQC"));
+		assertTrue(tree.addWord("AAZ"));
+		assertEquals(tree.getWordsCount(), 172822);
+		assertTrue(tree.searchWord("KELASQC"));
+		assertTrue(tree.existsPath("KELA"));
+		assertTrue(tree.searchWord("AAZ"));
+
+		/* Words sharing moved nodes are still present */
+		assertTrue(tree.searchWord("AA"));
+		assertTrue(tree.searchWord("AAH"));
+		assertTrue(tree.searchWord("AAHED"));
+	}
+
+	@Test
+	@DisplayName("Should not be able to add not proper words and be able to add proper")
+	public void addIncorrectWordsTest() {
+		assertFalse(tree.addWord(""));
+		assertFalse(tree.addWord(" "));
+		assertFalse(tree.addWord("a"));
+		assertFalse(tree.addWord("down"));
+		assertFalse(tree.addWord("DO IT"));
+
+		tree.addWord("MYSAMPLEWORD");
+		assertFalse(tree.addWord("MYSAMPLEWORD"));
+
+		assertEquals(tree.getWordsCount(), 172821);
+	}
+
+	@Test
+	@DisplayName("Should give same answers as words tree")
+	public void sameAsWordsTreeTest() {
+		WordsTree wordsTree = new WordsTree();
+		try {
+			wordsTree.loadWords(null);
+			Path path = Paths.get(DataManager.DEFAULT_DICTIONARY_FILE);
+			BufferedReader br = Files.newBufferedReader(path);
+			String line;
+			while ((line = br.readLine()) != null) {
+				String word = line.toUpperCase();
+				assertTrue(tree.searchWord(word));
+				for (int i = 1; i < word.length(); i++) {
+					String prefix = word.substring(0, i);
+					assertEquals(wordsTree.searchWord(prefix), tree.searchWord(prefix));
+					assertTrue(tree.existsPath(prefix));
+				}
+			}
+			br.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+
+		assertFalse(tree.searchWord("RECOI"));
+		assertFalse(tree.searchWord("NAIMLES"));
+		assertFalse(tree.searchWord("PEAR LIER"));
+		assertFalse(tree.searchWord(""));
+		assertFalse(tree.existsPath("QX"));
+		assertTrue(tree.existsPath(""));
+	}
+
+	@Test
+	@DisplayName("Tree should be empty after loading file that not exists")
+	public void shouldBeEmptyTreeAfterFailedLoadingTest() {
+		tree = new PackedWordsTree();
+		try {
+			tree.loadWords("fileThatNotExists.txt");
+		} catch (IOException e) {
+		}
+		assertEquals(tree.getWordsCount(), 0);
+		assertFalse(tree.existsPath("A"));
+	}
+
+}
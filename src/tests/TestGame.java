@@ -0,0 +1,52 @@
+package tests;
+
+import main.game.Game;
+import main.game.Tile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Game with board that can be filled by test.
+ */
+class TestGame extends Game {
+
+	TestGame() throws IOException {
+		super();
+	}
+
+	/**
+	 * Create rack tiles. Blank is '*' with 0 points, other letters have 1 - 4 points.
+	 */
+	static List<Tile> createRack(String letters) {
+		List<Tile> rack = new ArrayList<>();
+		for(char letter : letters.toCharArray()) {
+			rack.add(new Tile(letter, letter == '*' ? 0 : 1 + (letter - 'A') % 4));
+		}
+		return rack;
+	}
+
+	void placeWord(String word, int row, int column) {
+		placeWord(word, row, column, true);
+	}
+
+	void placeWord(String word, int row, int column, boolean horizontally) {
+		List<Tile> tiles = new ArrayList<>();
+		for(int i=0; i<word.length(); i++) {
+			Tile tile = new Tile(word.charAt(i), 1);
+			tile.setRow(horizontally ? row : row + i);
+			tile.setColumn(horizontally ? column + i : column);
+			if(board.isEmpty(tile.getRow(), tile.getColumn())) {
+				tiles.add(tile);
+			}
+		}
+		place(tiles);
+	}
+
+	void place(List<Tile> tiles) {
+		placeTiles(tiles);
+		firstMoveDone = true;
+	}
+
+}
@@ -1,12 +1,16 @@
 package tests;
 
 import main.game.GameVersion;
+import main.game.Tile;
 import main.game.TileBag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -50,4 +54,75 @@ class TileBagTest {
 
 	}
 
-}
\ No newline at end of file
+	private String letters(List<Tile> tiles) {
+		StringBuilder letters = new StringBuilder();
+		for(Tile tile : tiles) {
+			letters.append(tile.getLetter());
+		}
+		return letters.toString();
+	}
+
+	@Test
+	@DisplayName("Should draw every tile of pattern once")
+	public void grabAllTest() throws IOException {
+		tileBag = new TileBag(GameVersion.SCRABBLE_15x15, new SplittableRandom(1));
+		String all = letters(tileBag.getTiles());
+		assertEquals(12, tileBag.getCount('E'));
+		assertEquals(2, tileBag.getCount('*'));
+		assertTrue(all.startsWith("**AAAAAAAAAB"));
+
+		List<Tile> drawn = new ArrayList<>();
+		Tile tile;
+		while((tile = tileBag.grabTile()) != null) {
+			assertEquals(tileBag.getPoints(tile.getLetter()), tile.getPoints());
+			drawn.add(tile);
+		}
+		assertEquals(100, drawn.size());
+		assertEquals(0, tileBag.getRemainingTilesCount());
+		assertTrue(tileBag.getTiles().isEmpty());
+		drawn.sort((a, b) -> a.getLetter() - b.getLetter());
+		assertEquals(all, letters(drawn));
+
+		tileBag.addTile(drawn.get(0));
+		assertEquals(1, tileBag.getCount('*'));
+		assertEquals('*', tileBag.grabTile().getLetter());
+	}
+
+	@Test
+	@DisplayName("Should repeat draws with the same seed")
+	public void seedTest() throws IOException {
+		TileBag first = new TileBag(GameVersion.SCRABBLE_15x15, new SplittableRandom(7));
+		TileBag second = new TileBag(GameVersion.SCRABBLE_15x15, new SplittableRandom(7));
+		for(int i=0; i<100; i++) {
+			assertEquals(first.grabTile().getLetter(), second.grabTile().getLetter());
+		}
+	}
+
+	@Test
+	@DisplayName("Should copy and sample bag without changing it")
+	public void copyAndSampleTest() throws IOException {
+		tileBag = new TileBag(GameVersion.WORDS_WITH_FRIENDS_11x11, new SplittableRandom(3));
+		for(int i=0; i<40; i++) {
+			tileBag.grabTile();
+		}
+		String remaining = letters(tileBag.getTiles());
+
+		TileBag copy = tileBag.copy();
+		assertEquals(remaining, letters(copy.getTiles()));
+		copy.grabTile();
+		assertEquals(11, copy.getRemainingTilesCount());
+		assertEquals(12, tileBag.getRemainingTilesCount());
+
+		List<Tile> sample = tileBag.sample(7, new SplittableRandom(5));
+		assertEquals(7, sample.size());
+		for(Tile tile : sample) {
+			assertTrue(remaining.indexOf(tile.getLetter()) >= 0);
+		}
+		List<Tile> all = tileBag.sample(100, new SplittableRandom(5));
+		assertEquals(12, all.size());
+		all.sort((a, b) -> a.getLetter() - b.getLetter());
+		assertEquals(remaining, letters(all));
+		assertEquals(remaining, letters(tileBag.getTiles()));
+	}
+
+}
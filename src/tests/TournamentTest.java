@@ -0,0 +1,70 @@
+package tests;
+
+import main.game.BotStrategy;
+import main.game.DataManager;
+import main.game.GameVersion;
+import main.game.Tournament;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+	@Test
+	@DisplayName("Should play all games in parallel and sum results")
+	public void runTest() throws IOException {
+		DataManager.setGameVersion(GameVersion.SCRABBLE_15x15);
+		DataManager.setBoardSize(15);
+
+		Tournament.Result result = new Tournament(new int[] {DataManager.MAX_DIFFICULTY, 1}, 6, 3, 24).run();
+
+		assertEquals(6, result.getGamesCount());
+		assertEquals(6, result.getWins(0) + result.getWins(1) + result.getDraws());
+		assertTrue(result.getMovesCount() > 0);
+		assertTrue(result.getAveragePoints(0) > 0);
+		assertTrue(result.getLatencyPercentile(50) <= result.getLatencyPercentile(99));
+		assertTrue(result.getMovesPerSecond() > 0);
+		assertEquals(24, result.getSeed());
+	}
+
+	@Test
+	@DisplayName("Should play every bot with its own difficulty and strategy")
+	public void botSetupTest() throws IOException {
+		DataManager.setGameVersion(GameVersion.SCRABBLE_15x15);
+		DataManager.setBoardSize(15);
+
+		Tournament.BotSetup[] pointsBots = {
+				new Tournament.BotSetup(DataManager.MAX_DIFFICULTY, BotStrategy.POINTS),
+				new Tournament.BotSetup(DataManager.MAX_DIFFICULTY, BotStrategy.POINTS)};
+		Tournament.BotSetup[] leaveBots = {
+				new Tournament.BotSetup(DataManager.MAX_DIFFICULTY, BotStrategy.LEAVE),
+				Tournament.BotSetup.parse("10:points")};
+		Tournament.Result pointsResult = new Tournament(pointsBots, 2, 2, 7).run();
+		Tournament.Result leaveResult = new Tournament(leaveBots, 2, 2, 7).run();
+
+		assertEquals(BotStrategy.LEAVE, leaveResult.getBot(0).getStrategy());
+		assertEquals(BotStrategy.POINTS, leaveResult.getBot(1).getStrategy());
+		assertEquals(10, leaveResult.getBot(1).getDifficulty());
+		assertTrue(leaveResult.toString().contains("Bot 1 (difficulty 10, Points and leave)"));
+		assertTrue(leaveResult.toString().contains("Bot 2 (difficulty 10, Points)"));
+		/* Same tiles are dealt, so only strategy of first bot changes the games */
+		assertNotEquals(pointsResult.getAveragePoints(0), leaveResult.getAveragePoints(0));
+	}
+
+	@Test
+	@DisplayName("Should not create bot setup with invalid difficulty")
+	public void invalidSetupTest() {
+		assertThrows(IllegalArgumentException.class, () -> new Tournament.BotSetup(0, BotStrategy.POINTS));
+		assertThrows(IllegalArgumentException.class, () -> Tournament.BotSetup.parse("10:UNKNOWN"));
+	}
+
+	@Test
+	@DisplayName("Should not create tournament with single bot")
+	public void singleBotTest() {
+		assertThrows(IllegalArgumentException.class, () -> new Tournament(new int[] {1}, 1, 1));
+	}
+
+}
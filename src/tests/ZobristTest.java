@@ -0,0 +1,89 @@
+package tests;
+
+import main.game.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristTest {
+
+	@BeforeEach
+	public void initGame() {
+		DataManager.setGameVersion(GameVersion.SCRABBLE_15x15);
+		DataManager.setBoardSize(15);
+	}
+
+	@Test
+	@DisplayName("Should keep board hash equal to hash of same board built from scratch")
+	public void boardHashTest() throws IOException {
+		TestGame game = new TestGame();
+		assertEquals(0, game.getBoardHash());
+		game.placeWord("HOUSE", 7, 5);
+		long start = game.getBoardHash();
+		assertNotEquals(0, start);
+
+		List<Tile> rack = TestGame.createRack("CATS*");
+		MoveCollector collector = new MoveCollector(20);
+		new MoveGenerator(game).generateMoves(rack, collector);
+		for(Move move : collector.getMoves()) {
+			game.applyMove(move, null);
+			assertEquals(start ^ game.getZobrist().getMoveKey(move.getTiles()), game.getBoardHash());
+
+			TestGame other = new TestGame();
+			other.placeWord("HOUSE", 7, 5);
+			other.applyMove(move, null);
+			assertEquals(other.getBoardHash(), game.getBoardHash());
+
+			game.undoMove();
+			assertEquals(start, game.getBoardHash());
+		}
+	}
+
+	@Test
+	@DisplayName("Should give same hash to same position reached by different move order")
+	public void transpositionTest() throws IOException {
+		TestGame game = new TestGame();
+		game.placeWord("HOUSE", 7, 5);
+		Move first = new Move(createTiles("AT", 8, 5));
+		Move second = new Move(createTiles("ON", 6, 8));
+
+		game.applyMove(first, null);
+		game.applyMove(second, null);
+		long hash = game.getBoardHash();
+		game.undoMove();
+		game.undoMove();
+		game.applyMove(second, null);
+		game.applyMove(first, null);
+		assertEquals(hash, game.getBoardHash());
+	}
+
+	private List<Tile> createTiles(String word, int row, int column) {
+		List<Tile> tiles = TestGame.createRack(word);
+		for(int i=0; i<tiles.size(); i++) {
+			tiles.get(i).setRow(row);
+			tiles.get(i).setColumn(column + i);
+		}
+		return tiles;
+	}
+
+	@Test
+	@DisplayName("Should hash racks regardless of tile order and distinguish players and side to move")
+	public void rackHashTest() throws IOException {
+		assertEquals(Zobrist.getRackKey(0, TestGame.createRack("AAB*")), Zobrist.getRackKey(0, TestGame.createRack("*ABA")));
+		assertNotEquals(Zobrist.getRackKey(0, TestGame.createRack("AAB")), Zobrist.getRackKey(0, TestGame.createRack("ABB")));
+		assertNotEquals(Zobrist.getRackKey(0, TestGame.createRack("AB")), Zobrist.getRackKey(1, TestGame.createRack("AB")));
+		assertEquals(0, Zobrist.getRackKey(0, new ArrayList<>()));
+
+		TestGame game = new TestGame();
+		List<List<Tile>> racks = Arrays.asList(TestGame.createRack("AB"), TestGame.createRack("CD"));
+		List<List<Tile>> swapped = Arrays.asList(TestGame.createRack("CD"), TestGame.createRack("AB"));
+		assertNotEquals(game.getPositionHash(racks, 0), game.getPositionHash(racks, 1));
+		assertNotEquals(game.getPositionHash(racks, 0), game.getPositionHash(swapped, 0));
+	}
+
+}